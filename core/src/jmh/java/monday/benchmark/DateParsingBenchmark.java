@@ -0,0 +1,68 @@
+package monday.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import monday.task.Deadline;
+import monday.task.Event;
+
+/**
+ * Measures creating deadlines and events from date strings in each supported format.
+ * Later formats are only tried after the earlier ones fail, so they show the cost of the fallbacks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsingBenchmark {
+    /**
+     * The date formats a deadline accepts.
+     */
+    @State(Scope.Benchmark)
+    public static class DeadlineDates {
+        @Param({"2025-12-01 1800", "1/12/2025 1800", "2025-12-01"})
+        private String date;
+    }
+
+    /**
+     * The date formats an event accepts.
+     */
+    @State(Scope.Benchmark)
+    public static class EventDates {
+        @Param({"2025-12-01 1800", "1/12/2025 1800"})
+        private String date;
+    }
+
+    /**
+     * Creates a deadline due at the given date.
+     *
+     * @param dates The date to parse
+     * @return The deadline
+     */
+    @Benchmark
+    public Deadline deadline(DeadlineDates dates) {
+        return new Deadline("return book", dates.date);
+    }
+
+    /**
+     * Creates an event that starts and ends at the given date.
+     *
+     * @param dates The date to parse
+     * @return The event
+     */
+    @Benchmark
+    public Event event(EventDates dates) {
+        return new Event("project meeting", dates.date, dates.date);
+    }
+}
@@ -0,0 +1,60 @@
+package monday.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import monday.parser.Parser;
+
+/**
+ * Measures {@link Parser#parse(String)} for one typical line of every command type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "bye",
+        "list",
+        "list /page 3 /size 20",
+        "more",
+        "mark 12",
+        "unmark 12",
+        "todo read book /priority high",
+        "deadline return book /by 2025-12-01 1800",
+        "event project meeting /from 2025-12-01 1400 /to 2025-12-01 1600",
+        "delete 3",
+        "find book",
+        "query type:deadline AND done:false AND priority>=medium",
+        "undo 2",
+        "redo",
+        "export tasks.json /format json",
+        "import tasks.csv",
+        "stats",
+        "help"
+    })
+    private String line;
+
+    /**
+     * Parses the command line.
+     *
+     * @return The parsed command
+     * @throws Exception If the line is invalid, which none of the parameters are
+     */
+    @Benchmark
+    public Parser.Command parse() throws Exception {
+        return Parser.parse(line);
+    }
+}
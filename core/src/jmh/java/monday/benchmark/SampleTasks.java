@@ -0,0 +1,54 @@
+package monday.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Task;
+import monday.task.Todo;
+
+/**
+ * Builds task lists for the benchmarks: a repeating mix of todos, deadlines and events with
+ * different priorities, a third of them done.
+ */
+final class SampleTasks {
+    private static final String[] WORDS = {"read", "book", "report", "meeting", "groceries", "review", "call", "plan"};
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private SampleTasks() {
+    }
+
+    /**
+     * Creates a list of sample tasks.
+     *
+     * @param size The number of tasks
+     * @return The tasks, the same for every call with the same size
+     */
+    static ArrayList<Task> create(int size) {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        Task.Priority[] priorities = Task.Priority.values();
+        for (int i = 0; i < size; i++) {
+            String description = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            Task.Priority priority = priorities[i % priorities.length];
+            LocalDateTime time = START.plusHours(i % 10_000);
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new Todo(description, priority);
+                break;
+            case 1:
+                task = new Deadline(description, time, priority);
+                break;
+            default:
+                task = new Event(description, time, time.plusHours(2), priority);
+                break;
+            }
+            if (i % 3 == 2) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
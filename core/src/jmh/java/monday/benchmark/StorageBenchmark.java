@@ -0,0 +1,93 @@
+package monday.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import monday.exception.TaskLoadingException;
+import monday.storage.Storage;
+import monday.task.Task;
+
+/**
+ * Measures reading and writing the data file at different list sizes.
+ * The file is written once per trial, so {@link #load()} always reads the same content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private Storage storage;
+    private ArrayList<Task> tasks;
+
+    /**
+     * Writes a data file with {@link #size} tasks and loads it back.
+     *
+     * @throws IOException If the temporary directory cannot be created
+     * @throws TaskLoadingException If the file cannot be read back
+     */
+    @Setup
+    public void setUp() throws IOException, TaskLoadingException {
+        directory = Files.createTempDirectory("monday-storage-benchmark");
+        storage = new Storage(directory.resolve("monday.txt").toString());
+        storage.save(SampleTasks.create(size));
+        tasks = storage.load();
+    }
+
+    /**
+     * Deletes the data file and its directory.
+     *
+     * @throws IOException If a file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Reads and parses the whole file.
+     *
+     * @return The loaded tasks
+     * @throws TaskLoadingException If the file cannot be read
+     */
+    @Benchmark
+    public ArrayList<Task> load() throws TaskLoadingException {
+        return storage.load();
+    }
+
+    /**
+     * Formats and writes every task.
+     *
+     * @return The external change merged in, which is always null here
+     */
+    @Benchmark
+    public Storage.ExternalChange save() {
+        return storage.save(tasks);
+    }
+}
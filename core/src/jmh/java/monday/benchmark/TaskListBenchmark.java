@@ -0,0 +1,92 @@
+package monday.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import monday.exception.InvalidTaskNumberException;
+import monday.task.Task;
+import monday.task.TaskList;
+
+/**
+ * Measures searching, deleting and rendering an in-memory task list without storage.
+ * Deletions are undone in the same invocation so that the list keeps its size; undo costs
+ * about as much as the deletion it reverts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private TaskList taskList;
+
+    /**
+     * Fills the list with {@link #size} sample tasks.
+     */
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(SampleTasks.create(size));
+    }
+
+    /**
+     * Searches for a keyword that about a quarter of the tasks contain.
+     *
+     * @return The matching tasks
+     */
+    @Benchmark
+    public ArrayList<Task> findTasks() {
+        return taskList.findTasks("report");
+    }
+
+    /**
+     * Deletes the first task, which shifts every other task, and puts it back.
+     *
+     * @return The deleted task
+     * @throws InvalidTaskNumberException Never, as the list is not empty
+     */
+    @Benchmark
+    public Task deleteHead() throws InvalidTaskNumberException {
+        Task removed = taskList.deleteTask(1);
+        taskList.undo(1);
+        return removed;
+    }
+
+    /**
+     * Deletes the last task and puts it back.
+     *
+     * @return The deleted task
+     * @throws InvalidTaskNumberException Never, as the list is not empty
+     */
+    @Benchmark
+    public Task deleteTail() throws InvalidTaskNumberException {
+        Task removed = taskList.deleteTask(size);
+        taskList.undo(1);
+        return removed;
+    }
+
+    /**
+     * Renders the whole list as it is shown by {@code list}.
+     *
+     * @return The rendered list
+     */
+    @Benchmark
+    public String render() {
+        return taskList.toString();
+    }
+}
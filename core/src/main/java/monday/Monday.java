@@ -0,0 +1,261 @@
+package monday;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import monday.exception.EmptyDescriptionException;
+import monday.exception.InvalidCommandFormatException;
+import monday.exception.InvalidDateTimeException;
+import monday.exception.InvalidTaskNumberException;
+import monday.exception.TaskLoadingException;
+import monday.exception.TaskTransferException;
+import monday.exception.UnknownCommandException;
+import monday.parser.Parser;
+import monday.parser.Parser.CommandType;
+import monday.reminder.ReminderScheduler;
+import monday.server.MondayClient;
+import monday.server.MondayServer;
+import monday.storage.FileWatcher;
+import monday.storage.Storage;
+import monday.task.TaskList;
+import monday.ui.ConsoleSink;
+import monday.ui.ListCursor;
+import monday.ui.ResponseSink;
+import monday.ui.StringBuilderSink;
+import monday.ui.Ui;
+
+/**
+ * Main application class that orchestrates the Monday task manager.
+ * Serves as a thin layer that coordinates between Storage, TaskList, Ui, and Parser.
+ */
+public class Monday {
+    private static final String DATA_FILE = "./data/monday.txt";
+
+    private final Storage storage;
+    private final TaskList tasks;
+    private final ConsoleSink console = new ConsoleSink();
+    private final Ui ui;
+    private final ListCursor listCursor = new ListCursor();
+    private FileWatcher fileWatcher;
+
+    /**
+     * Constructs a Monday application instance with the specified file path.
+     * Initializes all components and loads existing tasks from storage.
+     *
+     * @param filePath The path to the file where tasks are stored
+     */
+    public Monday(String filePath) {
+        this(new Storage(filePath));
+        loadTasks(console, (bytesRead, totalBytes) -> { });
+        ui.flush();
+    }
+
+    /**
+     * Constructs a Monday application instance with an empty task list.
+     * The tasks are read later by {@link #loadTasks(Storage.ProgressListener)}.
+     *
+     * @param storage The storage the tasks are loaded from and saved to
+     */
+    private Monday(Storage storage) {
+        this.ui = new Ui(console);
+        this.storage = storage;
+        this.tasks = new TaskList(storage);
+    }
+
+    /**
+     * Creates a Monday application instance without reading the data file, so that a window can be shown
+     * straight away. Call {@link #loadTasks(Storage.ProgressListener)} afterwards, typically on a background thread.
+     *
+     * @param filePath The path to the file where tasks are stored
+     * @return The Monday instance with an empty task list
+     */
+    public static Monday createWithoutLoading(String filePath) {
+        return new Monday(new Storage(filePath));
+    }
+
+    /**
+     * Loads the tasks from storage into the task list, replacing anything in it.
+     * Commands that run concurrently through {@link #getResponse(String)} wait until loading has finished.
+     *
+     * @param progress The listener to report loading progress to
+     * @return The message describing the result of loading
+     */
+    public String loadTasks(Storage.ProgressListener progress) {
+        StringBuilderSink response = new StringBuilderSink();
+        loadTasks(response, progress);
+        return response.toString().trim();
+    }
+
+    /**
+     * Loads the tasks from storage and reports the result, and any lines that were skipped, to the given sink.
+     *
+     * @param out The sink to show the result on
+     * @param progress The listener to report loading progress to
+     */
+    private void loadTasks(ResponseSink out, Storage.ProgressListener progress) {
+        Ui output = new Ui(out);
+        synchronized (tasks) {
+            storage.setWarningSink(out);
+            try {
+                tasks.setTasks(storage.load(progress));
+                output.showLoadedTasksMessage(tasks.size());
+            } catch (TaskLoadingException e) {
+                output.showError(e.getMessage());
+            } finally {
+                storage.setWarningSink(null);
+            }
+        }
+        watchForExternalChanges();
+    }
+
+    /**
+     * Starts applying changes that other programs make to the data file, such as a second Monday window.
+     * A watcher left from an earlier load is stopped first, so loading again does not add a second one.
+     */
+    private synchronized void watchForExternalChanges() {
+        stopWatching();
+        try {
+            fileWatcher = new FileWatcher(storage.getPath(), () -> {
+                synchronized (tasks) {
+                    tasks.reloadExternalChanges();
+                }
+            });
+        } catch (IOException e) {
+            // without a watcher, other programs' changes are still merged in when saving
+        }
+    }
+
+    /**
+     * Stops watching the data file for changes made by other programs. Call this when the application
+     * shuts down.
+     */
+    public synchronized void close() {
+        stopWatching();
+    }
+
+    private void stopWatching() {
+        if (fileWatcher == null) {
+            return;
+        }
+        try {
+            fileWatcher.close();
+        } catch (IOException e) {
+            // the watcher thread stops once its watch service is closed or the program exits
+        }
+        fileWatcher = null;
+    }
+
+    /**
+     * Starts reminding about deadlines that are near and events that are about to start, at the lead
+     * times given by the {@value ReminderScheduler#LEAD_TIMES_PROPERTY} system property (by default an hour
+     * and ten minutes before). Tasks loaded later are picked up as well.
+     *
+     * @param notifier Receives the text of each reminder, on the reminder thread
+     */
+    public void startReminders(Consumer<String> notifier) {
+        ReminderScheduler reminders = new ReminderScheduler(tasks, ReminderScheduler.configuredLeadTimes(),
+                Clock.systemDefaultZone(), reminder -> {
+                    StringBuilderSink message = new StringBuilderSink();
+                    new Ui(message).showReminder(reminder, LocalDateTime.now());
+                    notifier.accept(message.toString().trim());
+                });
+        reminders.start();
+    }
+
+    /**
+     * Runs the main application loop.
+     * Handles user input, command parsing, and execution until the user exits.
+     */
+    public void run() {
+        ui.showWelcome();
+        ConsoleSink reminderOutput = new ConsoleSink();
+        startReminders(message -> {
+            // the user is usually waiting at the prompt, so show it again below the reminder
+            reminderOutput.append('\n').println(message).append("> ");
+            reminderOutput.flush();
+        });
+
+        while (true) {
+            try {
+                String input = ui.readCommand();
+                Parser.Command command = Parser.parse(input);
+
+                if (command.getType() == CommandType.BYE) {
+                    ui.showGoodbye();
+                    break;
+                }
+
+                synchronized (tasks) {
+                    storage.setWarningSink(console);
+                    try {
+                        Parser.execute(command, tasks, ui);
+                    } finally {
+                        storage.setWarningSink(null);
+                    }
+                }
+
+            } catch (EmptyDescriptionException | InvalidCommandFormatException | UnknownCommandException
+                     | InvalidTaskNumberException | InvalidDateTimeException | TaskTransferException e) {
+                ui.showError(e.getMessage());
+            } finally {
+                ui.flush();
+            }
+        }
+
+
+        close();
+        ui.close();
+    }
+
+    /**
+     * Generates a response for the user's chat message.
+     * Output is collected in a per-call buffer instead of the console, so this method
+     * may be called from several threads at once; commands are applied to the task list one at a time.
+     *
+     * @param input The user's message
+     * @return The reply to show to the user
+     */
+    public String getResponse(String input) {
+        try {
+            Parser.Command command = Parser.parse(input);
+
+            if (command.getType() == CommandType.BYE) {
+                return "Bye. Hope to see you again soon!";
+            }
+
+            StringBuilderSink response = new StringBuilderSink();
+            synchronized (tasks) {
+                // warnings such as a failed save belong to the reply of the command that caused them
+                storage.setWarningSink(response);
+                try {
+                    Parser.execute(command, tasks, new Ui(response, listCursor));
+                } finally {
+                    storage.setWarningSink(null);
+                }
+            }
+            return response.toString().trim();
+
+        } catch (EmptyDescriptionException | InvalidCommandFormatException | UnknownCommandException
+                 | InvalidTaskNumberException | InvalidDateTimeException | TaskTransferException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Entry point for the Monday task manager application.
+     * Without arguments, starts the interactive session. With arguments, runs them as a single command,
+     * through a running server if there is one, and prints the reply.
+     *
+     * @param args Command line arguments, optionally a command such as {@code todo buy milk}
+     */
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            String command = String.join(" ", args);
+            System.out.println(MondayClient.runCommand(command, MondayServer.DEFAULT_SOCKET, DATA_FILE));
+            return;
+        }
+        new Monday(DATA_FILE).run();
+    }
+}
@@ -0,0 +1,15 @@
+package monday.exception;
+
+/**
+ * Thrown when tasks cannot be exported to or imported from an external file.
+ * This typically occurs when the file is inaccessible or is not valid CSV or JSON.
+ */
+public class TaskTransferException extends Exception {
+    public TaskTransferException(String message, Throwable cause) {
+        super("Could not transfer tasks: " + message, cause);
+    }
+
+    public TaskTransferException(String message) {
+        super("Could not transfer tasks: " + message);
+    }
+}
@@ -0,0 +1,84 @@
+package monday.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide latency histograms and counters for the main operations.
+ * Histograms are created once and kept in static fields by the code that records them,
+ * so recording never looks anything up.
+ */
+public class Metrics {
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final LongAdder BYTES_WRITTEN = new LongAdder();
+    private static final LongAdder TASKS_SCANNED = new LongAdder();
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it on first use.
+     *
+     * @param name The name shown in reports
+     * @return The histogram
+     */
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Adds to the number of bytes written to the data file.
+     *
+     * @param bytes The number of bytes written
+     */
+    public static void addBytesWritten(long bytes) {
+        BYTES_WRITTEN.add(bytes);
+    }
+
+    /**
+     * Returns the number of bytes written to the data file since the program started.
+     *
+     * @return The total number of bytes written
+     */
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.sum();
+    }
+
+    /**
+     * Adds to the number of tasks examined by searches.
+     *
+     * @param tasks The number of tasks examined
+     */
+    public static void addTasksScanned(long tasks) {
+        TASKS_SCANNED.add(tasks);
+    }
+
+    /**
+     * Writes a table with the count, p50, p90, p99 and max of every histogram that has recorded
+     * anything, followed by the counters. Times are in microseconds.
+     *
+     * @param out Where to write the report
+     * @throws IOException If writing fails
+     */
+    public static void writeReport(Appendable out) throws IOException {
+        out.append(String.format("%-18s %8s %10s %10s %10s %10s\n", "operation (us)", "count", "p50", "p90", "p99",
+                "max"));
+        for (LatencyHistogram histogram : new TreeMap<>(HISTOGRAMS).values()) {
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            out.append(String.format("%-18s %8d %10.1f %10.1f %10.1f %10.1f\n", histogram.getName(),
+                    histogram.getCount(), micros(histogram.getPercentile(50)), micros(histogram.getPercentile(90)),
+                    micros(histogram.getPercentile(99)), micros(histogram.getMax())));
+        }
+        out.append(String.format("bytes written: %d\n", BYTES_WRITTEN.sum()));
+        out.append(String.format("tasks scanned: %d\n", TASKS_SCANNED.sum()));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
@@ -0,0 +1,1093 @@
+package monday.parser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import monday.exception.EmptyDescriptionException;
+import monday.exception.InvalidCommandFormatException;
+import monday.exception.InvalidDateTimeException;
+import monday.exception.InvalidTaskNumberException;
+import monday.exception.TaskTransferException;
+import monday.exception.UnknownCommandException;
+import monday.metrics.LatencyHistogram;
+import monday.metrics.Metrics;
+import monday.storage.TaskExporter;
+import monday.storage.TaskImporter;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.task.SortedTaskViews;
+import monday.task.Task;
+import monday.task.TaskFilter;
+import monday.task.TaskList;
+import monday.task.Todo;
+import monday.ui.Ui;
+
+/**
+ * Handles parsing and interpretation of user commands.
+ * Follows Single Responsibility Principle - only handles command parsing operations.
+ */
+public class Parser {
+    private static final LatencyHistogram PARSE_TIME = Metrics.histogram("parse");
+    private static final Map<CommandType, LatencyHistogram> EXECUTE_TIMES = new EnumMap<>(CommandType.class);
+
+    static {
+        for (CommandType type : CommandType.values()) {
+            EXECUTE_TIMES.put(type, Metrics.histogram("execute " + type.name().toLowerCase()));
+        }
+    }
+
+    /**
+     * Represents the different types of commands that can be parsed.
+     */
+    public enum CommandType {
+        BYE, LIST, MORE, MARK, UNMARK, TODO, DEADLINE, EVENT, DELETE, FIND, QUERY, SORT, SUMMARY, UNDO, REDO, EXPORT,
+        IMPORT, STATS, HELP, UNKNOWN
+    }
+
+    /**
+     * Represents a parsed command with its type and relevant parameters.
+     */
+    public static class Command {
+        private CommandType type;
+        private String fullCommand;
+        private String description;
+        private String parameter;
+        private String[] parameters;
+        private Task.Priority priority;
+        private Recurrence.Frequency frequency;
+        private TaskFilter filter;
+
+        /**
+         * Constructs a Command object.
+         *
+         * @param type The type of command
+         * @param fullCommand The original full command string
+         */
+        public Command(CommandType type, String fullCommand) {
+            this.type = type;
+            this.fullCommand = fullCommand;
+        }
+
+        /**
+         * Returns the command type.
+         *
+         * @return The command type
+         */
+        public CommandType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the full original command string.
+         *
+         * @return The full command string
+         */
+        public String getFullCommand() {
+            return fullCommand;
+        }
+
+        /**
+         * Returns the task description from the command.
+         *
+         * @return The task description
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Sets the task description for the command.
+         *
+         * @param description The task description
+         */
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns the main parameter for the command.
+         *
+         * @return The main parameter
+         */
+        public String getParameter() {
+            return parameter;
+        }
+
+        /**
+         * Sets the main parameter for the command.
+         *
+         * @param parameter The main parameter
+         */
+        public void setParameter(String parameter) {
+            this.parameter = parameter;
+        }
+
+        /**
+         * Returns an array of parameters for the command.
+         *
+         * @return The array of parameters
+         */
+        public String[] getParameters() {
+            return parameters;
+        }
+
+        /**
+         * Sets the array of parameters for the command.
+         *
+         * @param parameters The array of parameters
+         */
+        public void setParameters(String[] parameters) {
+            this.parameters = parameters;
+        }
+
+        /**
+         * Returns the priority for the command.
+         *
+         * @return The priority level
+         */
+        public Task.Priority getPriority() {
+            return priority;
+        }
+
+        /**
+         * Sets the priority for the command.
+         *
+         * @param priority The priority level
+         */
+        public void setPriority(Task.Priority priority) {
+            this.priority = priority;
+        }
+
+        /**
+         * Returns how often the task to add repeats.
+         *
+         * @return The frequency, or null if the task happens once
+         */
+        public Recurrence.Frequency getFrequency() {
+            return frequency;
+        }
+
+        /**
+         * Sets how often the task to add repeats.
+         *
+         * @param frequency The frequency, or null if the task happens once
+         */
+        public void setFrequency(Recurrence.Frequency frequency) {
+            this.frequency = frequency;
+        }
+
+        /**
+         * Returns the compiled filter for the command.
+         *
+         * @return The compiled filter
+         */
+        public TaskFilter getFilter() {
+            return filter;
+        }
+
+        /**
+         * Sets the compiled filter for the command.
+         *
+         * @param filter The compiled filter
+         */
+        public void setFilter(TaskFilter filter) {
+            this.filter = filter;
+        }
+    }
+
+    /**
+     * Parses priority from a command string by looking for /priority flags.
+     *
+     * @param commandPart The command part to parse priority from
+     * @return An array where [0] is the command without priority, [1] is the priority string
+     */
+    private static String[] extractPriority(String commandPart) {
+        String[] parts = commandPart.split(" /priority ", 2);
+        if (parts.length == 2) {
+            return new String[]{parts[0].trim(), parts[1].trim()};
+        }
+        return new String[]{commandPart, null};
+    }
+
+    /**
+     * Removes a trailing /every option from a deadline or event and parses its frequency.
+     *
+     * @param command The command to set the frequency on
+     * @param commandPart The command part after the priority was removed
+     * @return The command part without the /every option
+     * @throws InvalidCommandFormatException If the frequency is not day, week or month
+     */
+    private static String extractFrequency(Command command, String commandPart) throws InvalidCommandFormatException {
+        String[] parts = commandPart.split(" /every ", 2);
+        if (parts.length < 2) {
+            return commandPart;
+        }
+        try {
+            command.setFrequency(Recurrence.Frequency.parse(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCommandFormatException("Invalid repeat '" + parts[1].trim()
+                    + "'. Use /every day, /every week or /every month.");
+        }
+        return parts[0].trim();
+    }
+
+    /**
+     * Converts a priority string to a Priority enum value.
+     *
+     * @param priorityStr The priority string (high, medium, low, 1, 2, 3)
+     * @return The corresponding Priority enum value
+     * @throws InvalidCommandFormatException If the priority string is invalid
+     */
+    private static Task.Priority parsePriority(String priorityStr) throws InvalidCommandFormatException {
+        if (priorityStr == null || priorityStr.trim().isEmpty()) {
+            return Task.Priority.MEDIUM; // Default priority
+        }
+
+        priorityStr = priorityStr.toLowerCase().trim();
+        switch (priorityStr) {
+        case "high":
+        case "1":
+            return Task.Priority.HIGH;
+        case "medium":
+        case "2":
+            return Task.Priority.MEDIUM;
+        case "low":
+        case "3":
+            return Task.Priority.LOW;
+        default:
+            throw new InvalidCommandFormatException(
+                    "Invalid priority: " + priorityStr + ". Valid options: high/1, medium/2, low/3");
+        }
+    }
+
+    /**
+     * Parses a 'bye' command.
+     *
+     * @param command The command object to configure
+     */
+    private static void parseByeCommand(Command command) {
+        command.type = CommandType.BYE;
+    }
+
+    /**
+     * Parses a 'list' command with optional /page and /size options.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If an option is unknown or its value is not a valid number
+     */
+    private static void parseListCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.LIST;
+        String usage = "Invalid format for the 'list' command. Format: list [/page <number>] [/size <1-"
+                + Ui.MAX_PAGE_SIZE + ">]";
+        int page = 1;
+        int pageSize = Ui.DEFAULT_PAGE_SIZE;
+        String[] options = words.length < 2 ? new String[0] : words[1].trim().split("\\s+");
+        if (options.length % 2 != 0) {
+            throw new InvalidCommandFormatException(usage);
+        }
+        for (int i = 0; i < options.length; i += 2) {
+            int value;
+            try {
+                value = Integer.parseInt(options[i + 1]);
+            } catch (NumberFormatException e) {
+                throw new InvalidCommandFormatException(usage);
+            }
+            if (options[i].equals("/page") && value >= 1) {
+                page = value;
+            } else if (options[i].equals("/size") && value >= 1 && value <= Ui.MAX_PAGE_SIZE) {
+                pageSize = value;
+            } else {
+                throw new InvalidCommandFormatException(usage);
+            }
+        }
+        command.setParameters(new String[]{String.valueOf(page), String.valueOf(pageSize)});
+    }
+
+    /**
+     * Parses a 'more' command.
+     *
+     * @param command The command object to configure
+     */
+    private static void parseMoreCommand(Command command) {
+        command.type = CommandType.MORE;
+    }
+
+    /**
+     * Parses a 'mark' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If format is invalid
+     */
+    private static void parseMarkCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.MARK;
+        if (words.length < 2) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'mark' command. Please specify a task number.");
+        }
+        command.setParameter(words[1].trim());
+    }
+
+    /**
+     * Parses an 'unmark' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If format is invalid
+     */
+    private static void parseUnmarkCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.UNMARK;
+        if (words.length < 2) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'unmark' command. Please specify a task number.");
+        }
+        command.setParameter(words[1].trim());
+    }
+
+    /**
+     * Parses a 'todo' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws EmptyDescriptionException If description is empty
+     * @throws InvalidCommandFormatException If priority format is invalid
+     */
+    private static void parseTodoCommand(Command command, String[] words) throws EmptyDescriptionException, InvalidCommandFormatException {
+        command.type = CommandType.TODO;
+        if (words.length < 2 || words[1].trim().isEmpty()) {
+            throw new EmptyDescriptionException("todo");
+        }
+        String[] priorityParts = extractPriority(words[1]);
+        command.setDescription(priorityParts[0]);
+        command.setPriority(parsePriority(priorityParts[1]));
+    }
+
+    /**
+     * Parses a 'deadline' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws EmptyDescriptionException If description is empty
+     * @throws InvalidCommandFormatException If format is invalid
+     */
+    private static void parseDeadlineCommand(Command command, String[] words) throws EmptyDescriptionException, InvalidCommandFormatException {
+        command.type = CommandType.DEADLINE;
+        if (words.length < 2) {
+            throw new EmptyDescriptionException("deadline");
+        }
+        String[] priorityParts = extractPriority(words[1]);
+        String[] deadlineParts = extractFrequency(command, priorityParts[0]).split(" /by ", 2);
+        if (deadlineParts.length < 2) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'deadline' command. Description and due date are required. " +
+                    "Format: deadline <description> /by <yyyy-MM-dd HHmm> [/every <day|week|month>] "
+                    + "[/priority <high|medium|low>]");
+        }
+        command.setDescription(deadlineParts[0].trim());
+        command.setParameter(deadlineParts[1].trim());
+        command.setPriority(parsePriority(priorityParts[1]));
+    }
+
+    /**
+     * Parses an 'event' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws EmptyDescriptionException If description is empty
+     * @throws InvalidCommandFormatException If format is invalid
+     */
+    private static void parseEventCommand(Command command, String[] words) throws EmptyDescriptionException, InvalidCommandFormatException {
+        command.type = CommandType.EVENT;
+        if (words.length < 2) {
+            throw new EmptyDescriptionException("event");
+        }
+        String[] priorityParts = extractPriority(words[1]);
+        String[] eventParts = extractFrequency(command, priorityParts[0]).split(" /from ", 2);
+        if (eventParts.length < 2) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'event' command. Description, start and end times are required. " +
+                    "Format: event <description> /from <start> /to <end> [/every <day|week|month>] "
+                    + "[/priority <high|medium|low>]");
+        }
+        String[] fromToParts = eventParts[1].split(" /to ", 2);
+        if (fromToParts.length < 2) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'event' command. Description, start and end times are required. " +
+                    "Format: event <description> /from <start> /to <end> [/every <day|week|month>] "
+                    + "[/priority <high|medium|low>]");
+        }
+        command.setDescription(eventParts[0].trim());
+        command.setParameters(new String[]{fromToParts[0].trim(), fromToParts[1].trim()});
+        command.setPriority(parsePriority(priorityParts[1]));
+    }
+
+    /**
+     * Parses a 'delete' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If format is invalid
+     */
+    private static void parseDeleteCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.DELETE;
+        if (words.length < 2) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'delete' command. Please specify a task number.");
+        }
+        command.setParameter(words[1].trim());
+    }
+
+    /**
+     * Parses a 'find' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If format is invalid
+     */
+    private static void parseFindCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.FIND;
+        String keyword = words.length < 2 ? "" : words[1].trim();
+        if (keyword.isEmpty() || keyword.equals("~")) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'find' command. Please specify a keyword to search for, "
+                    + "or ~<keyword> to allow for typos.");
+        }
+        command.setParameter(keyword);
+    }
+
+    /**
+     * Parses a 'query' command, compiling the expression into a filter once.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If the query is missing or malformed
+     */
+    private static void parseQueryCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.QUERY;
+        if (words.length < 2 || words[1].trim().isEmpty()) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'query' command. Please specify a query, "
+                    + "e.g. query type:deadline AND done:false AND priority>=medium");
+        }
+        command.setParameter(words[1].trim());
+        command.setFilter(QueryParser.compile(words[1]));
+    }
+
+    /**
+     * Parses a 'sort' command of the form {@code sort /by <key>}.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If the /by option is missing or the key is unknown
+     */
+    private static void parseSortCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.SORT;
+        String usage = "Invalid format for the 'sort' command. Format: sort /by <due|priority|description|type>";
+        String[] options = words.length < 2 ? new String[0] : words[1].trim().split("\\s+");
+        if (options.length != 2 || !options[0].equals("/by")) {
+            throw new InvalidCommandFormatException(usage);
+        }
+        try {
+            command.setParameter(SortedTaskViews.SortKey.parse(options[1]).toString());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCommandFormatException(usage);
+        }
+    }
+
+    /**
+     * Parses a 'summary' command.
+     *
+     * @param command The command object to configure
+     */
+    private static void parseSummaryCommand(Command command) {
+        command.type = CommandType.SUMMARY;
+    }
+
+    /**
+     * Parses an 'undo' or 'redo' command with an optional number of steps.
+     *
+     * @param command The command object to configure
+     * @param type Either UNDO or REDO
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If the number of steps is not a positive integer
+     */
+    private static void parseUndoRedoCommand(Command command, CommandType type, String[] words)
+            throws InvalidCommandFormatException {
+        command.type = type;
+        String name = type.name().toLowerCase();
+        if (words.length < 2 || words[1].trim().isEmpty()) {
+            command.setParameter("1");
+            return;
+        }
+        String steps = words[1].trim();
+        try {
+            if (Integer.parseInt(steps) < 1) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the '" + name + "' command. Usage: " + name + " [number of steps]");
+        }
+        command.setParameter(steps);
+    }
+
+    /**
+     * Parses an 'export' command.
+     * The format defaults to the one implied by the file extension when /format is omitted.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If the file name is missing or the format is unknown
+     */
+    private static void parseExportCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.EXPORT;
+        String usage = "Invalid format for the 'export' command. Format: export <file> [/format csv|json]";
+        if (words.length < 2 || words[1].trim().isEmpty()) {
+            throw new InvalidCommandFormatException(usage);
+        }
+        String[] exportParts = words[1].split(" /format ", 2);
+        String fileName = exportParts[0].trim();
+        if (fileName.isEmpty()) {
+            throw new InvalidCommandFormatException(usage);
+        }
+        TaskExporter.Format format = exportParts.length == 2
+                ? TaskExporter.Format.fromName(exportParts[1])
+                : TaskExporter.Format.fromFileName(fileName);
+        if (format == null) {
+            throw new InvalidCommandFormatException(usage);
+        }
+        command.setParameters(new String[]{fileName, format.name()});
+    }
+
+    /**
+     * Parses an 'import' command.
+     *
+     * @param command The command object to configure
+     * @param words The command words split from input
+     * @throws InvalidCommandFormatException If the file name is missing
+     */
+    private static void parseImportCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.IMPORT;
+        if (words.length < 2 || words[1].trim().isEmpty()) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'import' command. Format: import <file>");
+        }
+        command.setParameter(words[1].trim());
+    }
+
+    /**
+     * Parses a 'stats' command, with an optional file to export the statistics to.
+     *
+     * @param command The command object to populate
+     * @param words The split command words
+     * @throws InvalidCommandFormatException If the export option has no file name
+     */
+    private static void parseStatsCommand(Command command, String[] words) throws InvalidCommandFormatException {
+        command.type = CommandType.STATS;
+        if (words.length < 2 || words[1].trim().isEmpty()) {
+            return;
+        }
+        String options = words[1].trim();
+        String fileName = options.startsWith("/export") ? options.substring("/export".length()).trim() : "";
+        if (fileName.isEmpty()) {
+            throw new InvalidCommandFormatException(
+                    "Invalid format for the 'stats' command. Format: stats [/export <file>]");
+        }
+        command.setParameter(fileName);
+    }
+
+    /**
+     * Parses a 'help' command.
+     *
+     * @param command The command object to configure
+     */
+    private static void parseHelpCommand(Command command) {
+        command.type = CommandType.HELP;
+    }
+
+    /**
+     * Parses the user input string into a Command object.
+     *
+     * @param fullCommand The full user input string
+     * @return A Command object representing the parsed command
+     * @throws EmptyDescriptionException If a command requires a description but none is provided
+     * @throws InvalidCommandFormatException If a command's format is incorrect
+     * @throws UnknownCommandException If the command is not recognized
+     */
+    public static Command parse(String fullCommand) throws EmptyDescriptionException,
+            InvalidCommandFormatException, UnknownCommandException {
+        long start = System.nanoTime();
+        try {
+            return parseCommand(fullCommand);
+        } finally {
+            PARSE_TIME.recordSince(start);
+        }
+    }
+
+    /**
+     * Parses the user input string into a Command object, without timing it.
+     *
+     * @param fullCommand The full user input string
+     * @return A Command object representing the parsed command
+     * @throws EmptyDescriptionException If a command requires a description but none is provided
+     * @throws InvalidCommandFormatException If a command's format is incorrect
+     * @throws UnknownCommandException If the command is not recognized
+     */
+    private static Command parseCommand(String fullCommand) throws EmptyDescriptionException,
+            InvalidCommandFormatException, UnknownCommandException {
+
+        fullCommand = fullCommand.trim();
+        String[] words = fullCommand.split(" ", 2);
+        String commandWord = words[0].toLowerCase();
+
+        Command command = new Command(CommandType.UNKNOWN, fullCommand);
+
+        switch (commandWord) {
+            case "bye":
+                parseByeCommand(command);
+                break;
+            case "list":
+                parseListCommand(command, words);
+                break;
+            case "more":
+                parseMoreCommand(command);
+                break;
+            case "mark":
+                parseMarkCommand(command, words);
+                break;
+            case "unmark":
+                parseUnmarkCommand(command, words);
+                break;
+            case "todo":
+                parseTodoCommand(command, words);
+                break;
+            case "deadline":
+                parseDeadlineCommand(command, words);
+                break;
+            case "event":
+                parseEventCommand(command, words);
+                break;
+            case "delete":
+                parseDeleteCommand(command, words);
+                break;
+            case "find":
+                parseFindCommand(command, words);
+                break;
+            case "query":
+                parseQueryCommand(command, words);
+                break;
+            case "sort":
+                parseSortCommand(command, words);
+                break;
+            case "summary":
+                parseSummaryCommand(command);
+                break;
+            case "undo":
+                parseUndoRedoCommand(command, CommandType.UNDO, words);
+                break;
+            case "redo":
+                parseUndoRedoCommand(command, CommandType.REDO, words);
+                break;
+            case "export":
+                parseExportCommand(command, words);
+                break;
+            case "import":
+                parseImportCommand(command, words);
+                break;
+            case "stats":
+                parseStatsCommand(command, words);
+                break;
+            case "help":
+                parseHelpCommand(command);
+                break;
+            default:
+                throw new UnknownCommandException();
+        }
+
+        return command;
+    }
+
+    /**
+     * Executes a 'bye' command.
+     */
+    private static void executeBye() {
+        // Handled in main loop
+    }
+
+    /**
+     * Executes a 'list' command.
+     *
+     * @param command The command with the page number and page size as parameters
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeList(Command command, TaskList taskList, Ui ui) {
+        String[] pageParams = command.getParameters();
+        ui.showTaskList(taskList, Integer.parseInt(pageParams[0]), Integer.parseInt(pageParams[1]));
+    }
+
+    /**
+     * Executes a 'more' command.
+     *
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeMore(TaskList taskList, Ui ui) {
+        ui.showMoreTasks(taskList);
+    }
+
+    /**
+     * Executes a 'mark' command.
+     *
+     * @param command The command with parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws InvalidTaskNumberException If task number is invalid
+     */
+    private static void executeMark(Command command, TaskList taskList, Ui ui) throws InvalidTaskNumberException {
+        int markTaskNum = Integer.parseInt(command.getParameter());
+        Task markedTask = taskList.markTaskAsDone(markTaskNum);
+        ui.showMarkUnmarkMessage(markedTask, true);
+    }
+
+    /**
+     * Executes an 'unmark' command.
+     *
+     * @param command The command with parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws InvalidTaskNumberException If task number is invalid
+     */
+    private static void executeUnmark(Command command, TaskList taskList, Ui ui) throws InvalidTaskNumberException {
+        int unmarkTaskNum = Integer.parseInt(command.getParameter());
+        Task unmarkedTask = taskList.markTaskAsNotDone(unmarkTaskNum);
+        ui.showMarkUnmarkMessage(unmarkedTask, false);
+    }
+
+    /**
+     * Executes a 'todo' command.
+     *
+     * @param command The command with description
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeTodo(Command command, TaskList taskList, Ui ui) {
+        Task.Priority priority = command.getPriority();
+        if (priority != null) {
+            taskList.addTask(new Todo(command.getDescription(), priority));
+        } else {
+            taskList.addTask(new Todo(command.getDescription()));
+        }
+        ui.showTaskAddedMessage(taskList.getLastTask(), taskList.size());
+    }
+
+    /**
+     * Executes a 'deadline' command.
+     *
+     * @param command The command with description and parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws InvalidDateTimeException If date/time format is invalid
+     */
+    private static void executeDeadline(Command command, TaskList taskList, Ui ui) throws InvalidDateTimeException {
+        try {
+            Task.Priority priority = command.getPriority();
+            Deadline deadline = priority != null
+                    ? new Deadline(command.getDescription(), command.getParameter(), priority)
+                    : new Deadline(command.getDescription(), command.getParameter());
+            if (command.getFrequency() != null) {
+                deadline.setRecurrence(new Recurrence(command.getFrequency()));
+            }
+            taskList.addTask(deadline);
+            ui.showTaskAddedMessage(taskList.getLastTask(), taskList.size());
+        } catch (java.time.format.DateTimeParseException e) {
+            throw new InvalidDateTimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * Executes an 'event' command.
+     *
+     * @param command The command with description and parameters
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws InvalidDateTimeException If date/time format is invalid
+     */
+    private static void executeEvent(Command command, TaskList taskList, Ui ui) throws InvalidDateTimeException {
+        try {
+            String[] times = command.getParameters();
+            Task.Priority priority = command.getPriority();
+            Event event = priority != null
+                    ? new Event(command.getDescription(), times[0], times[1], priority)
+                    : new Event(command.getDescription(), times[0], times[1]);
+            if (command.getFrequency() != null) {
+                event.setRecurrence(new Recurrence(command.getFrequency()));
+            }
+            taskList.addTask(event);
+            ui.showTaskAddedMessage(taskList.getLastTask(), taskList.size());
+        } catch (java.time.format.DateTimeParseException | IllegalArgumentException e) {
+            throw new InvalidDateTimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * Executes a 'delete' command.
+     *
+     * @param command The command with parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws InvalidTaskNumberException If task number is invalid
+     */
+    private static void executeDelete(Command command, TaskList taskList, Ui ui) throws InvalidTaskNumberException {
+        int deleteTaskNum = Integer.parseInt(command.getParameter());
+        Task deletedTask = taskList.deleteTask(deleteTaskNum);
+        ui.showTaskDeletedMessage(deletedTask, taskList.size());
+    }
+
+    /**
+     * Executes a 'find' command.
+     *
+     * @param command The command with parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeFind(Command command, TaskList taskList, Ui ui) {
+        String keyword = command.getParameter();
+        Iterable<Task> matchingTasks = keyword.startsWith("~")
+                ? taskList.findTasksFuzzy(keyword.substring(1))
+                : taskList.matchingTasks(keyword);
+        ui.showMatchingTasks(matchingTasks);
+    }
+
+    /**
+     * Executes a 'query' command.
+     *
+     * @param command The command with the compiled filter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeQuery(Command command, TaskList taskList, Ui ui) {
+        ui.showMatchingTasks(taskList.matchingTasks(command.getFilter()));
+    }
+
+    /**
+     * Executes a 'sort' command.
+     *
+     * @param command The command with the sort key as parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeSort(Command command, TaskList taskList, Ui ui) {
+        SortedTaskViews.SortKey key = SortedTaskViews.SortKey.parse(command.getParameter());
+        ui.showSortedTasks(taskList.sortedBy(key), key);
+    }
+
+    /**
+     * Executes a 'summary' command.
+     *
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeSummary(TaskList taskList, Ui ui) {
+        ui.showSummary(taskList.getSummary(), LocalDateTime.now());
+    }
+
+    /**
+     * Executes an 'undo' command.
+     *
+     * @param command The command with the number of steps as parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeUndo(Command command, TaskList taskList, Ui ui) {
+        int undone = taskList.undo(Integer.parseInt(command.getParameter()));
+        ui.showUndoRedoMessage(undone, true);
+    }
+
+    /**
+     * Executes a 'redo' command.
+     *
+     * @param command The command with the number of steps as parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeRedo(Command command, TaskList taskList, Ui ui) {
+        int redone = taskList.redo(Integer.parseInt(command.getParameter()));
+        ui.showUndoRedoMessage(redone, false);
+    }
+
+    /**
+     * Executes an 'export' command.
+     *
+     * @param command The command with the file name and format as parameters
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws TaskTransferException If the file cannot be written
+     */
+    private static void executeExport(Command command, TaskList taskList, Ui ui) throws TaskTransferException {
+        String[] exportParams = command.getParameters();
+        int exported = TaskExporter.export(taskList, exportParams[0], TaskExporter.Format.valueOf(exportParams[1]));
+        ui.showExportMessage(exported, exportParams[0]);
+    }
+
+    /**
+     * Executes an 'import' command.
+     *
+     * @param command The command with the file name as parameter
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws TaskTransferException If the file cannot be read
+     */
+    private static void executeImport(Command command, TaskList taskList, Ui ui) throws TaskTransferException {
+        TaskImporter.Result result = TaskImporter.importTasks(command.getParameter(), taskList);
+        ui.showImportMessage(result.getImported(), result.getSkipped(), taskList.size());
+    }
+
+    /**
+     * Executes a 'stats' command, showing the statistics or writing them to a file.
+     *
+     * @param command The command with the export file as parameter, if any
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeStats(Command command, Ui ui) {
+        String fileName = command.getParameter();
+        if (fileName == null) {
+            ui.showStats();
+            return;
+        }
+        try {
+            Path path = Path.of(fileName);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                Metrics.writeReport(writer);
+            }
+            ui.showStatsExportMessage(fileName);
+        } catch (IOException e) {
+            ui.showError("Could not write statistics to " + fileName + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Executes a 'help' command.
+     *
+     * @param ui The Ui instance to display messages
+     */
+    private static void executeHelp(Ui ui) {
+        ui.showHelp();
+    }
+
+    /**
+     * Executes the given command by delegating to the appropriate methods in TaskList and Ui.
+     *
+     * @param command The command to execute
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws UnknownCommandException If the command type is not recognized
+     * @throws InvalidCommandFormatException If the command format is incorrect
+     * @throws InvalidTaskNumberException If the task number is invalid
+     * @throws InvalidDateTimeException If the date/time format is invalid
+     * @throws EmptyDescriptionException If a description is missing
+     * @throws TaskTransferException If tasks cannot be exported or imported
+     */
+    public static void execute(Command command, TaskList taskList, Ui ui)
+            throws UnknownCommandException, InvalidCommandFormatException, InvalidTaskNumberException,
+            InvalidDateTimeException, EmptyDescriptionException, TaskTransferException {
+        long start = System.nanoTime();
+        try {
+            executeCommand(command, taskList, ui);
+        } finally {
+            EXECUTE_TIMES.get(command.getType()).recordSince(start);
+        }
+    }
+
+    /**
+     * Executes a parsed command, without timing it.
+     *
+     * @param command The command to execute
+     * @param taskList The TaskList instance to operate on
+     * @param ui The Ui instance to display messages
+     * @throws UnknownCommandException If the command type is unknown
+     * @throws InvalidCommandFormatException If the command format is invalid
+     * @throws InvalidTaskNumberException If a task number is invalid
+     * @throws InvalidDateTimeException If a date/time format is invalid
+     * @throws EmptyDescriptionException If a task description is empty
+     * @throws TaskTransferException If an export or import file cannot be written or read
+     */
+    private static void executeCommand(Command command, TaskList taskList, Ui ui)
+            throws UnknownCommandException, InvalidCommandFormatException, InvalidTaskNumberException,
+            InvalidDateTimeException, EmptyDescriptionException, TaskTransferException {
+
+        switch (command.getType()) {
+            case BYE:
+                executeBye();
+                break;
+            case LIST:
+                executeList(command, taskList, ui);
+                break;
+            case MORE:
+                executeMore(taskList, ui);
+                break;
+            case MARK:
+                executeMark(command, taskList, ui);
+                break;
+            case UNMARK:
+                executeUnmark(command, taskList, ui);
+                break;
+            case TODO:
+                executeTodo(command, taskList, ui);
+                break;
+            case DEADLINE:
+                executeDeadline(command, taskList, ui);
+                break;
+            case EVENT:
+                executeEvent(command, taskList, ui);
+                break;
+            case DELETE:
+                executeDelete(command, taskList, ui);
+                break;
+            case FIND:
+                executeFind(command, taskList, ui);
+                break;
+            case QUERY:
+                executeQuery(command, taskList, ui);
+                break;
+            case SORT:
+                executeSort(command, taskList, ui);
+                break;
+            case SUMMARY:
+                executeSummary(taskList, ui);
+                break;
+            case UNDO:
+                executeUndo(command, taskList, ui);
+                break;
+            case REDO:
+                executeRedo(command, taskList, ui);
+                break;
+            case EXPORT:
+                executeExport(command, taskList, ui);
+                break;
+            case IMPORT:
+                executeImport(command, taskList, ui);
+                break;
+            case STATS:
+                executeStats(command, ui);
+                break;
+            case HELP:
+                executeHelp(ui);
+                break;
+            case UNKNOWN:
+            default:
+                throw new UnknownCommandException();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package monday.parser;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import monday.exception.InvalidCommandFormatException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Task;
+import monday.task.TaskFilter;
+import monday.task.Todo;
+
+/**
+ * Compiles query expressions such as {@code type:deadline AND done:false AND priority>=medium AND text:report}
+ * into a {@link TaskFilter} tree.
+ *
+ * <p>Supported conditions are {@code type}, {@code done}, {@code priority}, {@code due} and {@code text},
+ * combined with AND, OR, NOT and parentheses. Conditions next to each other without an operator are ANDed,
+ * and a bare word is treated as {@code text:word}. Values containing spaces can be quoted.</p>
+ */
+public class QueryParser {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final String USAGE = "Invalid query. Conditions: type:<todo|deadline|event>, done:<true|false>, "
+            + "priority<op><high|medium|low>, due<op><yyyy-MM-dd [HHmm]>, text:<word>; "
+            + "combine with AND, OR, NOT and parentheses. Operators: : = != < <= > >=";
+
+    private final List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Compiles a query expression into a filter.
+     *
+     * @param query The query expression
+     * @return The compiled filter
+     * @throws InvalidCommandFormatException If the query is empty or malformed
+     */
+    public static TaskFilter compile(String query) throws InvalidCommandFormatException {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new InvalidCommandFormatException(USAGE);
+        }
+        QueryParser parser = new QueryParser(tokens);
+        TaskFilter filter = parser.parseOr();
+        if (parser.position < tokens.size()) {
+            throw new InvalidCommandFormatException(
+                    "Unexpected '" + tokens.get(parser.position) + "' in query. " + USAGE);
+        }
+        return filter;
+    }
+
+    /**
+     * Splits a query into words, parentheses and quoted strings.
+     * Quotes are removed but the quoted text is kept together as part of the surrounding word.
+     *
+     * @param query The query expression
+     * @return The list of tokens
+     * @throws InvalidCommandFormatException If a quote is not closed
+     */
+    private static List<String> tokenize(String query) throws InvalidCommandFormatException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasToken = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasToken = true;
+            } else if (isQuoted) {
+                current.append(c);
+            } else if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (hasToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    hasToken = false;
+                }
+                if (c == '(' || c == ')') {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+                hasToken = true;
+            }
+        }
+        if (isQuoted) {
+            throw new InvalidCommandFormatException("Unterminated quote in query. " + USAGE);
+        }
+        if (hasToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private TaskFilter parseOr() throws InvalidCommandFormatException {
+        List<TaskFilter> alternatives = new ArrayList<>();
+        alternatives.add(parseAnd());
+        while (acceptKeyword("OR")) {
+            alternatives.add(parseAnd());
+        }
+        return TaskFilter.anyOf(alternatives);
+    }
+
+    private TaskFilter parseAnd() throws InvalidCommandFormatException {
+        List<TaskFilter> conditions = new ArrayList<>();
+        conditions.add(parseUnary());
+        while (position < tokens.size() && !isKeyword("OR") && !tokens.get(position).equals(")")) {
+            acceptKeyword("AND");
+            conditions.add(parseUnary());
+        }
+        return TaskFilter.allOf(conditions);
+    }
+
+    private TaskFilter parseUnary() throws InvalidCommandFormatException {
+        if (position >= tokens.size()) {
+            throw new InvalidCommandFormatException("Query ended unexpectedly. " + USAGE);
+        }
+        if (acceptKeyword("NOT")) {
+            return TaskFilter.not(parseUnary());
+        }
+        String token = tokens.get(position++);
+        if (token.equals("(")) {
+            TaskFilter inner = parseOr();
+            if (position >= tokens.size() || !tokens.get(position).equals(")")) {
+                throw new InvalidCommandFormatException("Missing ')' in query. " + USAGE);
+            }
+            position++;
+            return inner;
+        }
+        if (token.equals(")") || token.equalsIgnoreCase("AND") || token.equalsIgnoreCase("OR")) {
+            throw new InvalidCommandFormatException("Unexpected '" + token + "' in query. " + USAGE);
+        }
+        return parseCondition(token);
+    }
+
+    /**
+     * Compiles a single condition such as {@code priority>=medium}.
+     *
+     * @param token The condition token
+     * @return The compiled filter
+     * @throws InvalidCommandFormatException If the field, operator or value is invalid
+     */
+    private static TaskFilter parseCondition(String token) throws InvalidCommandFormatException {
+        int operatorStart = -1;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == ':' || c == '=' || c == '<' || c == '>' || (c == '!' && i + 1 < token.length()
+                    && token.charAt(i + 1) == '=')) {
+                operatorStart = i;
+                break;
+            }
+        }
+        if (operatorStart <= 0) {
+            return TaskFilter.ofText(token);
+        }
+        int operatorEnd = operatorStart + 1;
+        if (operatorEnd < token.length() && token.charAt(operatorEnd) == '=' && token.charAt(operatorStart) != ':') {
+            operatorEnd++;
+        }
+        String field = token.substring(0, operatorStart).toLowerCase();
+        String operator = token.substring(operatorStart, operatorEnd);
+        String value = token.substring(operatorEnd).trim();
+        if (value.isEmpty()) {
+            throw new InvalidCommandFormatException("Missing value for '" + field + "' in query. " + USAGE);
+        }
+        TaskFilter.Comparison comparison = parseComparison(operator);
+
+        switch (field) {
+        case "type":
+            return requireEquality(field, comparison, TaskFilter.ofType(parseType(value)));
+        case "done":
+            return requireEquality(field, comparison, TaskFilter.ofDone(parseBoolean(value)));
+        case "priority":
+            return TaskFilter.ofPriority(comparison, parsePriority(value));
+        case "due":
+            return parseDueCondition(comparison, value);
+        case "text":
+            return requireEquality(field, comparison, TaskFilter.ofText(value));
+        default:
+            throw new InvalidCommandFormatException("Unknown query field '" + field + "'. " + USAGE);
+        }
+    }
+
+    private static TaskFilter.Comparison parseComparison(String operator) throws InvalidCommandFormatException {
+        switch (operator) {
+        case ":":
+        case "=":
+            return TaskFilter.Comparison.EQUAL;
+        case "!=":
+            return TaskFilter.Comparison.NOT_EQUAL;
+        case "<":
+            return TaskFilter.Comparison.LESS;
+        case "<=":
+            return TaskFilter.Comparison.LESS_OR_EQUAL;
+        case ">":
+            return TaskFilter.Comparison.GREATER;
+        case ">=":
+            return TaskFilter.Comparison.GREATER_OR_EQUAL;
+        default:
+            throw new InvalidCommandFormatException("Unknown operator '" + operator + "' in query. " + USAGE);
+        }
+    }
+
+    /**
+     * Applies an equality or inequality operator to a filter for a field that has no ordering.
+     */
+    private static TaskFilter requireEquality(String field, TaskFilter.Comparison comparison, TaskFilter filter)
+            throws InvalidCommandFormatException {
+        if (comparison == TaskFilter.Comparison.EQUAL) {
+            return filter;
+        } else if (comparison == TaskFilter.Comparison.NOT_EQUAL) {
+            return TaskFilter.not(filter);
+        }
+        throw new InvalidCommandFormatException(
+                "Operator '" + comparison + "' cannot be used with '" + field + "'. " + USAGE);
+    }
+
+    private static Class<? extends Task> parseType(String value) throws InvalidCommandFormatException {
+        switch (value.toLowerCase()) {
+        case "todo":
+        case "t":
+            return Todo.class;
+        case "deadline":
+        case "d":
+            return Deadline.class;
+        case "event":
+        case "e":
+            return Event.class;
+        default:
+            throw new InvalidCommandFormatException("Unknown task type '" + value + "' in query. " + USAGE);
+        }
+    }
+
+    private static boolean parseBoolean(String value) throws InvalidCommandFormatException {
+        switch (value.toLowerCase()) {
+        case "true":
+        case "yes":
+        case "1":
+            return true;
+        case "false":
+        case "no":
+        case "0":
+            return false;
+        default:
+            throw new InvalidCommandFormatException("Invalid value for 'done': " + value + ". " + USAGE);
+        }
+    }
+
+    private static Task.Priority parsePriority(String value) throws InvalidCommandFormatException {
+        switch (value.toLowerCase()) {
+        case "high":
+        case "1":
+            return Task.Priority.HIGH;
+        case "medium":
+        case "2":
+            return Task.Priority.MEDIUM;
+        case "low":
+        case "3":
+            return Task.Priority.LOW;
+        default:
+            throw new InvalidCommandFormatException("Invalid priority '" + value + "' in query. " + USAGE);
+        }
+    }
+
+    private static TaskFilter parseDueCondition(TaskFilter.Comparison comparison, String value)
+            throws InvalidCommandFormatException {
+        try {
+            if (value.length() > 10) {
+                return TaskFilter.ofDueDateTime(comparison, LocalDateTime.parse(value, DATE_TIME_FORMAT));
+            }
+            return TaskFilter.ofDueDate(comparison, LocalDate.parse(value));
+        } catch (DateTimeParseException e) {
+            throw new InvalidCommandFormatException("Invalid date '" + value + "' in query. " + USAGE);
+        }
+    }
+
+    private boolean isKeyword(String keyword) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (isKeyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+}
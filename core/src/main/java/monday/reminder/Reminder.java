@@ -0,0 +1,55 @@
+package monday.reminder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import monday.task.Event;
+import monday.task.Task;
+
+/**
+ * A notification that a deadline is near or an event is about to start.
+ */
+public class Reminder {
+    private final Task task;
+    private final LocalDateTime time;
+    private final Duration leadTime;
+
+    /**
+     * Constructs a reminder.
+     *
+     * @param task The deadline or event to remind about
+     * @param time When the deadline is due or the event starts
+     * @param leadTime How long before that time the reminder was due
+     */
+    Reminder(Task task, LocalDateTime time, Duration leadTime) {
+        this.task = task;
+        this.time = time;
+        this.leadTime = leadTime;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns when the deadline is due or the event starts.
+     *
+     * @return The time of the task
+     */
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+
+    /**
+     * Checks whether the reminder is for an event rather than a deadline.
+     *
+     * @return True if the task is an event
+     */
+    public boolean isEvent() {
+        return task instanceof Event;
+    }
+}
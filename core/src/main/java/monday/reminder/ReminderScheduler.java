@@ -0,0 +1,299 @@
+package monday.reminder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.TaskListListener;
+
+/**
+ * Reminds the user of deadlines that are near and events that are about to start, at one or more lead
+ * times before them. Reminders are kept in a {@link TimingWheel} that is updated from the task list's
+ * changes, so the list is never polled: each change costs constant time and each tick only looks at
+ * the reminders that are due.
+ *
+ * <p>When the whole list is replaced, such as after loading it from storage, the wheel is rebuilt on the
+ * reminder thread before its next tick rather than by the thread that loaded the list. The rebuild
+ * synchronizes on the task list, which is the lock that Monday holds while changing it.</p>
+ *
+ * <p>If a reminder's time has already passed when its task is scheduled, only the latest such reminder
+ * is shown, straight away; tasks whose time has passed get no reminder. A repeating task only has the
+ * reminders of its next pending occurrence in the wheel; the following occurrence is scheduled when the
+ * last of them is shown.</p>
+ */
+public class ReminderScheduler implements TaskListListener {
+    /** System property with comma-separated lead times such as {@code 1d,1h,10m}. */
+    public static final String LEAD_TIMES_PROPERTY = "monday.reminder.leadTimes";
+    /** Lead times used when the property is not set: an hour and ten minutes before. */
+    public static final List<Duration> DEFAULT_LEAD_TIMES = List.of(Duration.ofHours(1), Duration.ofMinutes(10));
+
+    private static final long TICK_MILLIS = 1000;
+
+    private final TaskList taskList;
+    private final List<Duration> leadTimes;
+    private final Clock clock;
+    private final Consumer<Reminder> onDue;
+    private TimingWheel<Reminder> wheel;
+    private Map<Task, List<TimingWheel.Timer<Reminder>>> timers;
+    private boolean needsRebuild = true;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs a scheduler for a task list and starts listening to its changes.
+     * Nothing is scheduled until the first call to {@link #advance()}, which {@link #start()} makes every second.
+     *
+     * @param taskList The task list to remind about
+     * @param leadTimes How long before a task's time to remind; zero means at the time itself
+     * @param clock The clock that gives the current time and time zone
+     * @param onDue Receives each reminder when it is due, on the thread that called {@link #advance()}
+     */
+    public ReminderScheduler(TaskList taskList, List<Duration> leadTimes, Clock clock, Consumer<Reminder> onDue) {
+        assert !leadTimes.isEmpty() : "At least one lead time is needed";
+        this.taskList = taskList;
+        this.leadTimes = new ArrayList<>(leadTimes);
+        this.leadTimes.sort(Comparator.reverseOrder());
+        this.clock = clock;
+        this.onDue = onDue;
+        taskList.addListener(this);
+    }
+
+    /**
+     * Parses comma-separated lead times, each a number followed by d, h or m, such as {@code 1d,1h,10m}.
+     *
+     * @param text The lead times
+     * @return The parsed lead times
+     * @throws IllegalArgumentException If a lead time is malformed or negative
+     */
+    public static List<Duration> parseLeadTimes(String text) {
+        List<Duration> parsed = new ArrayList<>();
+        for (String part : text.split(",")) {
+            String leadTime = part.trim().toLowerCase();
+            if (!leadTime.matches("\\d+[dhm]")) {
+                throw new IllegalArgumentException("Invalid lead time: " + part.trim()
+                        + ". Use a number followed by d, h or m, such as 1h.");
+            }
+            long amount = Long.parseLong(leadTime.substring(0, leadTime.length() - 1));
+            switch (leadTime.charAt(leadTime.length() - 1)) {
+            case 'd':
+                parsed.add(Duration.ofDays(amount));
+                break;
+            case 'h':
+                parsed.add(Duration.ofHours(amount));
+                break;
+            default:
+                parsed.add(Duration.ofMinutes(amount));
+                break;
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the lead times from the {@value #LEAD_TIMES_PROPERTY} system property,
+     * or the defaults if it is not set or invalid.
+     *
+     * @return The configured lead times
+     */
+    public static List<Duration> configuredLeadTimes() {
+        String property = System.getProperty(LEAD_TIMES_PROPERTY);
+        if (property == null || property.isBlank()) {
+            return DEFAULT_LEAD_TIMES;
+        }
+        try {
+            return parseLeadTimes(property);
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_LEAD_TIMES;
+        }
+    }
+
+    /**
+     * Starts a daemon thread that calls {@link #advance()} once a second.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monday-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::advance, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the reminder thread and stops listening to the task list.
+     */
+    public void close() {
+        taskList.removeListener(this);
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the wheel if the list was replaced, then passes every reminder that has become due to the
+     * callback. The callback runs without any lock held.
+     */
+    public void advance() {
+        rebuildIfNeeded();
+        List<Reminder> due;
+        synchronized (this) {
+            due = wheel.advanceTo(clock.millis());
+            for (Reminder reminder : due) {
+                List<TimingWheel.Timer<Reminder>> taskTimers = timers.get(reminder.getTask());
+                if (taskTimers != null) {
+                    taskTimers.removeIf(timer -> !timer.isScheduled());
+                    if (taskTimers.isEmpty()) {
+                        timers.remove(reminder.getTask());
+                        // a repeating task moves on to its next occurrence once the last reminder is shown
+                        schedule(reminder.getTask(), reminder.getTime());
+                    }
+                }
+            }
+        }
+        for (Reminder reminder : due) {
+            onDue.accept(reminder);
+        }
+    }
+
+    /**
+     * Returns the number of reminders waiting to be shown.
+     *
+     * @return The number of scheduled reminders
+     */
+    public synchronized int size() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        if (!needsRebuild) {
+            cancel(task);
+            schedule(task, now());
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        if (!needsRebuild) {
+            cancel(task);
+        }
+    }
+
+    @Override
+    public synchronized void taskStatusChanged(Task task) {
+        if (!needsRebuild) {
+            cancel(task);
+            schedule(task, now());
+        }
+    }
+
+    @Override
+    public synchronized void tasksReplaced() {
+        needsRebuild = true;
+    }
+
+    /**
+     * Schedules every task in the list again if the list was replaced since the last rebuild.
+     */
+    private void rebuildIfNeeded() {
+        synchronized (this) {
+            if (!needsRebuild) {
+                return;
+            }
+        }
+        synchronized (taskList) {
+            synchronized (this) {
+                wheel = new TimingWheel<>(TICK_MILLIS, clock.millis());
+                timers = new IdentityHashMap<>();
+                needsRebuild = false;
+                LocalDateTime now = now();
+                for (Task task : taskList) {
+                    schedule(task, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the reminders for the first occurrence of a task after the given time,
+     * unless the task is done or that occurrence has already passed.
+     */
+    private void schedule(Task task, LocalDateTime after) {
+        LocalDateTime time = nextOccurrence(task, after);
+        if (time == null || task.isDone()) {
+            return;
+        }
+        long timeMillis = time.atZone(clock.getZone()).toInstant().toEpochMilli();
+        long now = clock.millis();
+        if (timeMillis <= now) {
+            return;
+        }
+        List<TimingWheel.Timer<Reminder>> taskTimers = new ArrayList<>(leadTimes.size());
+        for (int i = 0; i < leadTimes.size(); i++) {
+            long reminderMillis = timeMillis - leadTimes.get(i).toMillis();
+            boolean isNextAlsoPast = i + 1 < leadTimes.size()
+                    && timeMillis - leadTimes.get(i + 1).toMillis() <= now;
+            if (reminderMillis <= now && isNextAlsoPast) {
+                continue; // a later reminder is already due, so this one would be redundant
+            }
+            taskTimers.add(wheel.schedule(reminderMillis, new Reminder(task, time, leadTimes.get(i))));
+        }
+        timers.put(task, taskTimers);
+    }
+
+    private void cancel(Task task) {
+        List<TimingWheel.Timer<Reminder>> taskTimers = timers.remove(task);
+        if (taskTimers != null) {
+            for (TimingWheel.Timer<Reminder> timer : taskTimers) {
+                wheel.cancel(timer);
+            }
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), clock.getZone());
+    }
+
+    /**
+     * Returns when a deadline is due or an event starts, after the given time. For a repeating task this
+     * is its first pending occurrence after that time, computed rather than looked up.
+     *
+     * @return The time, or null if the task has none after the given time
+     */
+    private static LocalDateTime nextOccurrence(Task task, LocalDateTime after) {
+        LocalDateTime first;
+        Recurrence recurrence;
+        if (task instanceof Deadline) {
+            first = ((Deadline) task).getDueDateTime();
+            recurrence = ((Deadline) task).getRecurrence();
+        } else if (task instanceof Event) {
+            first = ((Event) task).getStartDateTime();
+            recurrence = ((Event) task).getRecurrence();
+        } else {
+            return null;
+        }
+        if (recurrence == null) {
+            return first.isAfter(after) ? first : null;
+        }
+        return recurrence.nextPending(first, after.plusNanos(1));
+    }
+}
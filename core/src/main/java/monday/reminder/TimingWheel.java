@@ -0,0 +1,208 @@
+package monday.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel: timers are kept in slots by expiry time, so scheduling and cancelling
+ * a timer take constant time however many timers there are.
+ *
+ * <p>Level 0 has one slot per tick for the next {@value #SLOTS} ticks. Each higher level has
+ * {@value #SLOTS} slots that each cover a whole turn of the level below. When a lower level wraps
+ * around, the next slot of the level above is cascaded down, so a timer moves down at most once per
+ * level before it expires. Timers further away than the top level covers are parked in its last slot
+ * and placed again when they are cascaded.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @param <T> The type of value a timer carries
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Timer<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * A scheduled timer. Keep it to cancel the timer later.
+     *
+     * @param <T> The type of value the timer carries
+     */
+    public static final class Timer<T> {
+        private final T value;
+        private final long expiryTick;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T value, long expiryTick) {
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+
+        /**
+         * Returns the value given when the timer was scheduled.
+         *
+         * @return The timer's value
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Checks whether the timer is still waiting, that is, it has neither expired nor been cancelled.
+         *
+         * @return True if the timer is in the wheel
+         */
+        public boolean isScheduled() {
+            return previous != null;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+
+    /**
+     * Constructs an empty wheel.
+     *
+     * @param tickMillis The length of a tick; timers expire on the first tick at or after their time
+     * @param nowMillis The current time in milliseconds since the epoch
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, long nowMillis) {
+        assert tickMillis > 0 : "Tick length must be positive: " + tickMillis;
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+        this.slots = (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+        for (Timer<T>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timer<T> head = new Timer<>(null, 0);
+                head.previous = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    /**
+     * Schedules a timer. A time that has already passed expires on the next call to {@link #advanceTo(long)}.
+     *
+     * @param timeMillis The time to expire at, in milliseconds since the epoch
+     * @param value The value to return when the timer expires
+     * @return The timer, for cancelling it
+     */
+    public Timer<T> schedule(long timeMillis, T value) {
+        long expiryTick = Math.floorDiv(timeMillis, tickMillis);
+        if (Math.floorMod(timeMillis, tickMillis) != 0) {
+            expiryTick++; // never expire before the requested time
+        }
+        Timer<T> timer = new Timer<>(value, expiryTick);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a timer so that it never expires.
+     *
+     * @param timer A timer returned by {@link #schedule(long, Object)} on this wheel
+     * @return False if the timer had already expired or been cancelled
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (!timer.isScheduled()) {
+            return false;
+        }
+        timer.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given time and removes the timers that expired on the way.
+     * Time never moves backwards: an earlier time than the last one is ignored.
+     *
+     * @param nowMillis The current time in milliseconds since the epoch
+     * @return The values of the expired timers, in order of expiry
+     */
+    public List<T> advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= targetTick) {
+            if ((currentTick & SLOT_MASK) == 0) {
+                cascade();
+            }
+            Timer<T> head = slots[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                timer.unlink();
+                if (timer.expiryTick > currentTick) {
+                    place(timer); // parked beyond the top level
+                } else {
+                    size--;
+                    expired.add(timer.value);
+                }
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the number of timers still waiting.
+     *
+     * @return The number of scheduled timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves the timers of the slots that start at the current tick one or more levels down.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer<T> head = slots[level][index];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                timer.unlink();
+                place(timer);
+            }
+            if (index != 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Puts a timer into the slot for its expiry: the lowest level whose range covers it.
+     */
+    private void place(Timer<T> timer) {
+        long delay = timer.expiryTick - currentTick;
+        Timer<T> head;
+        if (delay < 0) {
+            head = slots[0][(int) (currentTick & SLOT_MASK)];
+        } else {
+            long tick = delay > MAX_DELAY_TICKS ? currentTick + MAX_DELAY_TICKS : timer.expiryTick;
+            long clampedDelay = tick - currentTick;
+            int level = 0;
+            while (clampedDelay >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+            head = slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        }
+        timer.previous = head.previous;
+        timer.next = head;
+        head.previous.next = timer;
+        head.previous = timer;
+    }
+}
@@ -0,0 +1,100 @@
+package monday.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import monday.Monday;
+
+/**
+ * Runs a single command from the shell, such as {@code monday todo buy milk}.
+ * The command is sent to a running {@link MondayServer} over its Unix-domain socket when there is one,
+ * so the task file is not read again and the reply comes from an already warm JVM.
+ * Without a server, the command runs in this process instead. Once the command has been sent it is never run
+ * here as well, since the server may already have applied it.
+ */
+public class MondayClient {
+    private MondayClient() {
+    }
+
+    /**
+     * Runs one command, preferring a running server. The command only runs in this process if no server
+     * accepts the connection; if the connection is lost after the command was sent, an error is returned.
+     *
+     * @param command The command line
+     * @param socketPath The server's Unix-domain socket
+     * @param dataFile The task file to use if no server is running
+     * @return The reply text
+     */
+    public static String runCommand(String command, Path socketPath, String dataFile) {
+        SocketChannel channel = Files.exists(socketPath) ? connect(socketPath) : null;
+        if (channel == null) {
+            Monday monday = Monday.createWithoutLoading(dataFile);
+            monday.loadTasks((bytesRead, totalBytes) -> { });
+            return monday.getResponse(command);
+        }
+        try {
+            return send(command, channel);
+        } catch (IOException e) {
+            return "Lost the connection to the Monday server (" + e.getMessage() + "). "
+                    + "The command may or may not have been run; check with 'list'.";
+        }
+    }
+
+    /**
+     * Connects to a server's Unix-domain socket.
+     *
+     * @param socketPath The server's Unix-domain socket
+     * @return The connected channel, or null if no server is listening on the socket
+     */
+    static SocketChannel connect(Path socketPath) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            return channel;
+        } catch (IOException | UnsupportedOperationException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException closeFailure) {
+                    // the channel was never connected, so there is nothing to clean up on the server
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Sends one command to a connected server and waits for its reply, then closes the channel.
+     *
+     * @param command The command line
+     * @param channel The channel returned by {@link #connect(Path)}
+     * @return The reply text
+     * @throws IOException If the server closes the connection early or the connection fails
+     */
+    static String send(String command, SocketChannel channel) throws IOException {
+        try (channel) {
+            Writer writer = new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8);
+            writer.write(command.replace('\n', ' '));
+            writer.write("\nbye\n");
+            writer.flush();
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            String reply = MondayServer.readReply(reader);
+            if (reply == null) {
+                throw new IOException("server closed the connection");
+            }
+            return reply;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package monday.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+
+import monday.exception.EmptyDescriptionException;
+import monday.exception.InvalidCommandFormatException;
+import monday.exception.InvalidDateTimeException;
+import monday.exception.InvalidTaskNumberException;
+import monday.exception.TaskLoadingException;
+import monday.exception.TaskTransferException;
+import monday.exception.UnknownCommandException;
+import monday.parser.Parser;
+import monday.parser.Parser.CommandType;
+import monday.storage.Storage;
+import monday.task.TaskList;
+import monday.ui.ConsoleSink;
+import monday.ui.ListCursor;
+import monday.ui.ResponseSink;
+import monday.ui.StringBuilderSink;
+import monday.ui.Ui;
+
+/**
+ * Serves one task list to many clients over a local TCP socket.
+ *
+ * <p>The protocol is line based: a client sends one command per line, and the server answers with
+ * the reply lines followed by a line containing a single '.'. Reply lines that start with '.' get an
+ * extra '.' in front, which the client removes. Sending {@code bye} ends the session.</p>
+ *
+ * <p>The same protocol is also offered on a Unix-domain socket, which {@link MondayClient} uses to run
+ * single commands from the shell without starting a new JVM's worth of work each time.</p>
+ *
+ * <p>Each connection is handled on its own thread, a virtual thread when the JVM supports them.
+ * Commands that only read the task list run side by side, while commands that change it run one at a time
+ * with no readers present. Every session has its own list cursor, so {@code more} continues that
+ * client's listing.</p>
+ *
+ * <p>A command that fails, even with an unexpected error, gets an error reply and the session goes on.
+ * Warnings raised while a command saves, such as a failed write, are part of that command's reply.</p>
+ *
+ * <p>When the server has a {@link TaskListRegistry}, a client can send {@code tenant <id>} to work on
+ * its own task list for the rest of the session; {@code tenant} alone reports the registry's statistics.</p>
+ */
+public class MondayServer implements Closeable {
+    /** Port used when none is given, configurable with -Dmonday.server.port. */
+    public static final int DEFAULT_PORT = Integer.getInteger("monday.server.port", 4848);
+    /** Unix-domain socket used when none is given, configurable with -Dmonday.server.socket. */
+    public static final Path DEFAULT_SOCKET = Path.of(System.getProperty("monday.server.socket", "./data/monday.sock"));
+    /** Line that ends every reply. */
+    static final String END_OF_REPLY = ".";
+    private static final String DATA_FILE = "./data/monday.txt";
+    private static final Path TENANT_DIRECTORY = Path.of("./data/tenants");
+    private static final String TENANT_COMMAND = "tenant";
+    private static final String SWITCHED = "Switched to task list '";
+    private static final int BACKLOG = 4096;
+    private static final ResponseSink CONSOLE = new ConsoleSink();
+
+    private final TaskListRegistry.Tenant defaultTenant;
+    private final TaskListRegistry registry;
+    private final ExecutorService sessions = newSessionExecutor();
+    private ServerSocket serverSocket;
+    private ServerSocketChannel unixChannel;
+    private Path unixSocketPath;
+
+    /**
+     * Constructs a server for the given task list.
+     *
+     * @param tasks The task list shared by all clients
+     */
+    public MondayServer(TaskList tasks) {
+        this(tasks, null, null);
+    }
+
+    /**
+     * Constructs a server for the given task list that also serves per-tenant lists.
+     * A session uses the shared list until it sends {@code tenant <id>}.
+     *
+     * @param tasks The task list used by sessions that have not chosen a tenant
+     * @param storage The storage the shared list is saved to, or null if it is not saved
+     * @param registry The tenants' task lists, or null to serve only the shared list
+     */
+    public MondayServer(TaskList tasks, Storage storage, TaskListRegistry registry) {
+        this.defaultTenant = new TaskListRegistry.Tenant(tasks, storage);
+        this.registry = registry;
+    }
+
+    /**
+     * Listens on the given port of the loopback interface and serves clients until closed.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @throws IOException If the port cannot be opened
+     */
+    public void serve(int port) throws IOException {
+        bind(port);
+        acceptConnections();
+    }
+
+    /**
+     * Opens the listening socket without accepting connections yet.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @return The port actually bound
+     * @throws IOException If the port cannot be opened
+     */
+    int bind(int port) throws IOException {
+        serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a session for each one.
+     *
+     * @throws IOException If accepting fails for a reason other than the server being closed
+     */
+    void acceptConnections() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            socket.setTcpNoDelay(true);
+            sessions.execute(() -> serveClient(socket));
+        }
+    }
+
+    /**
+     * Listens on a Unix-domain socket and serves clients on a background thread until closed.
+     * A socket file left behind by a previous server is replaced.
+     *
+     * @param socketPath The socket file to create
+     * @throws IOException If the socket cannot be created
+     */
+    public void serveUnixSocket(Path socketPath) throws IOException {
+        if (socketPath.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(socketPath.toAbsolutePath().getParent());
+        }
+        Files.deleteIfExists(socketPath);
+        unixChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        unixChannel.bind(UnixDomainSocketAddress.of(socketPath));
+        unixSocketPath = socketPath;
+        Thread acceptor = new Thread(this::acceptUnixConnections, "monday-unix-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void acceptUnixConnections() {
+        while (unixChannel.isOpen()) {
+            try {
+                SocketChannel channel = unixChannel.accept();
+                sessions.execute(() -> serveClient(channel));
+            } catch (AsynchronousCloseException e) {
+                return;
+            } catch (IOException e) {
+                warn("Could not accept a local client: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes a warning line to the server's console.
+     */
+    private static void warn(String message) {
+        synchronized (CONSOLE) {
+            CONSOLE.println(message);
+            CONSOLE.flush();
+        }
+    }
+
+    private void serveClient(SocketChannel channel) {
+        try (channel) {
+            serve(Channels.newInputStream(channel), Channels.newOutputStream(channel));
+        } catch (IOException e) {
+            // the client went away; nothing to report to it
+        }
+    }
+
+    private void serveClient(Socket socket) {
+        try (socket) {
+            serve(socket.getInputStream(), socket.getOutputStream());
+        } catch (IOException e) {
+            // the client went away; nothing to report to it
+        }
+    }
+
+    /**
+     * Runs one session: reads commands from the input until {@code bye} or end of input,
+     * writing each reply to the output.
+     *
+     * @param input The client's commands
+     * @param output Where the replies are written
+     * @throws IOException If reading or writing fails
+     */
+    void serve(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ListCursor cursor = new ListCursor();
+        String tenantId = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            boolean isBye = false;
+            String reply;
+            if (isTenantCommand(line)) {
+                String requested = line.trim().substring(TENANT_COMMAND.length()).trim();
+                reply = switchTenant(requested, tenantId);
+                if (reply.startsWith(SWITCHED)) {
+                    tenantId = requested;
+                    cursor = new ListCursor();
+                }
+            } else {
+                try {
+                    Parser.Command command = Parser.parse(line);
+                    isBye = command.getType() == CommandType.BYE;
+                    reply = isBye ? "Bye. Hope to see you again soon!" : execute(command, tenantId, cursor);
+                } catch (EmptyDescriptionException | InvalidCommandFormatException | UnknownCommandException e) {
+                    reply = e.getMessage();
+                } catch (RuntimeException e) {
+                    reply = unexpectedError(e);
+                }
+            }
+            writeReply(writer, reply);
+            writer.flush();
+            if (isBye) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the reply for a command that failed with an unexpected error, so that the session can go on.
+     */
+    private static String unexpectedError(RuntimeException e) {
+        return "Sorry, that command could not be run: " + (e.getMessage() != null ? e.getMessage() : e);
+    }
+
+    private static boolean isTenantCommand(String line) {
+        String trimmed = line.trim();
+        return trimmed.equals(TENANT_COMMAND)
+                || trimmed.startsWith(TENANT_COMMAND + " ") || trimmed.startsWith(TENANT_COMMAND + "\t");
+    }
+
+    /**
+     * Handles {@code tenant <id>}, which selects the task list for the rest of the session.
+     * Without an ID, reports the current tenant and the registry's cache statistics.
+     *
+     * @param requested The requested tenant ID, possibly empty
+     * @param current The session's current tenant ID, or null for the shared list
+     * @return The reply text, starting with {@link #SWITCHED} if the session should switch
+     */
+    private String switchTenant(String requested, String current) {
+        if (registry == null) {
+            return "This server only hosts a single task list.";
+        }
+        if (requested.isEmpty()) {
+            return "Current task list: " + (current == null ? "(shared)" : current) + "\n"
+                    + "Lists in memory: " + registry.size() + " of " + registry.getCapacity()
+                    + ", hits: " + registry.getHits() + ", misses: " + registry.getMisses()
+                    + ", evictions: " + registry.getEvictions();
+        }
+        if (!TaskListRegistry.isValidTenantId(requested)) {
+            return "Tenant IDs may only contain letters, digits, '-' and '_'.";
+        }
+        try {
+            registry.acquire(requested);
+        } catch (TaskLoadingException e) {
+            return e.getMessage();
+        }
+        return SWITCHED + requested + "'.";
+    }
+
+    /**
+     * Executes one command against the session's task list. Warnings from saving the list, and any
+     * unexpected error, are returned as part of the reply.
+     *
+     * @param command The parsed command
+     * @param tenantId The session's tenant, or null for the shared list
+     * @param cursor The session's list cursor
+     * @return The reply text
+     */
+    String execute(Parser.Command command, String tenantId, ListCursor cursor) {
+        StringBuilderSink response = new StringBuilderSink();
+        boolean isReadOnly = isReadOnly(command.getType());
+        TaskListRegistry.Tenant tenant;
+        Lock section;
+        try {
+            do {
+                tenant = tenantId == null ? defaultTenant : registry.acquire(tenantId);
+                section = isReadOnly ? tenant.getLock().readLock() : tenant.getLock().writeLock();
+                section.lock();
+                if (tenant.isEvicted()) {
+                    // the list was dropped between looking it up and locking it; load it again
+                    section.unlock();
+                }
+            } while (tenant.isEvicted());
+        } catch (TaskLoadingException e) {
+            return e.getMessage();
+        }
+        // only writers save, and they run one at a time, so the warning sink is never shared between replies
+        Storage storage = isReadOnly ? null : tenant.getStorage();
+        try {
+            if (storage != null) {
+                storage.setWarningSink(response);
+            }
+            Parser.execute(command, tenant.getTasks(), new Ui(response, cursor));
+        } catch (EmptyDescriptionException | InvalidCommandFormatException | UnknownCommandException
+                 | InvalidTaskNumberException | InvalidDateTimeException | TaskTransferException e) {
+            return e.getMessage();
+        } catch (RuntimeException e) {
+            return unexpectedError(e);
+        } finally {
+            if (storage != null) {
+                storage.setWarningSink(null);
+            }
+            section.unlock();
+        }
+        return response.toString().trim();
+    }
+
+    /**
+     * Returns whether a command only reads the task list and may run alongside other readers.
+     *
+     * @param type The command type
+     * @return True if the command never changes the task list
+     */
+    private static boolean isReadOnly(CommandType type) {
+        switch (type) {
+        case LIST:
+        case MORE:
+        case FIND:
+        case QUERY:
+        case EXPORT:
+        case HELP:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Writes a reply followed by the end-of-reply line, doubling any leading '.'.
+     *
+     * @param writer The writer to write to
+     * @param reply The reply text
+     * @throws IOException If writing fails
+     */
+    static void writeReply(Writer writer, String reply) throws IOException {
+        if (!reply.isEmpty()) {
+            for (String line : reply.split("\n", -1)) {
+                if (line.startsWith(".")) {
+                    writer.write('.');
+                }
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        writer.write(END_OF_REPLY);
+        writer.write('\n');
+    }
+
+    /**
+     * Reads one reply written by {@link #writeReply(Writer, String)}.
+     *
+     * @param reader The reader to read from
+     * @return The reply text, or null if the connection closed first
+     * @throws IOException If reading fails
+     */
+    static String readReply(BufferedReader reader) throws IOException {
+        StringBuilder reply = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.equals(END_OF_REPLY)) {
+                return reply.toString();
+            }
+            if (reply.length() > 0) {
+                reply.append('\n');
+            }
+            reply.append(line.startsWith(".") ? line.substring(1) : line);
+        }
+        return null;
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread when the JVM supports them,
+     * or on a pooled daemon platform thread otherwise.
+     *
+     * @return The executor
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "monday-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Stops accepting connections. Sessions already running are left to finish.
+     *
+     * @throws IOException If the listening socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        sessions.shutdown();
+        if (registry != null) {
+            registry.flushAll();
+        }
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        if (unixChannel != null) {
+            unixChannel.close();
+            Files.deleteIfExists(unixSocketPath);
+        }
+    }
+
+    /**
+     * Loads ./data/monday.txt and serves it on the port given as the first argument, or the default port,
+     * and on the default Unix-domain socket.
+     *
+     * @param args Optionally the port to listen on
+     */
+    public static void main(String[] args) {
+        Storage storage = new Storage(DATA_FILE);
+        TaskList tasks;
+        try {
+            tasks = new TaskList(storage.load(), storage);
+        } catch (TaskLoadingException e) {
+            System.out.println(e.getMessage());
+            tasks = new TaskList(storage);
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        TaskListRegistry registry = new TaskListRegistry(TENANT_DIRECTORY, TaskListRegistry.DEFAULT_CAPACITY);
+        try (MondayServer server = new MondayServer(tasks, storage, registry)) {
+            try {
+                server.serveUnixSocket(DEFAULT_SOCKET);
+                System.out.println("Serving local clients on " + DEFAULT_SOCKET);
+            } catch (IOException | UnsupportedOperationException e) {
+                System.out.println("Unix-domain socket not available: " + e.getMessage());
+            }
+            System.out.println("Serving " + tasks.size() + " tasks on port " + port);
+            server.serve(port);
+        } catch (IOException e) {
+            System.out.println("Could not start the server: " + e.getMessage());
+        }
+    }
+}
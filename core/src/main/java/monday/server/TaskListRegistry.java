@@ -0,0 +1,216 @@
+package monday.server;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import monday.exception.TaskLoadingException;
+import monday.storage.Storage;
+import monday.task.TaskList;
+
+/**
+ * Keeps one task list per tenant, each stored in its own file under a data directory.
+ * Only the most recently used lists are kept in memory; when the limit is reached the least recently
+ * used list is flushed to disk and dropped, and it is read again the next time it is needed.
+ */
+public class TaskListRegistry {
+    /** Number of lists kept in memory when none is given, configurable with -Dmonday.server.cachedLists. */
+    public static final int DEFAULT_CAPACITY = Math.max(1, Integer.getInteger("monday.server.cachedLists", 64));
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final Path dataDirectory;
+    private final int capacity;
+    private final Map<String, Tenant> loaded;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * A tenant's task list together with its storage and the lock that guards it.
+     */
+    static class Tenant {
+        private final TaskList tasks;
+        private final Storage storage;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean isEvicted;
+
+        Tenant(TaskList tasks, Storage storage) {
+            this.tasks = tasks;
+            this.storage = storage;
+        }
+
+        TaskList getTasks() {
+            return tasks;
+        }
+
+        /**
+         * Returns the storage the list is saved to.
+         *
+         * @return The storage, or null if the list is not saved
+         */
+        Storage getStorage() {
+            return storage;
+        }
+
+        ReadWriteLock getLock() {
+            return lock;
+        }
+
+        /**
+         * Returns whether this list has been dropped from the registry.
+         * A caller that finds this after taking the lock should look the tenant up again.
+         *
+         * @return True if the list was evicted
+         */
+        boolean isEvicted() {
+            return isEvicted;
+        }
+    }
+
+    /**
+     * Constructs a registry storing each tenant's tasks in {@code <dataDirectory>/<tenant>.txt}.
+     *
+     * @param dataDirectory The directory holding the tenants' files
+     * @param capacity The maximum number of lists kept in memory
+     */
+    public TaskListRegistry(Path dataDirectory, int capacity) {
+        assert capacity > 0 : "Capacity must be positive";
+        this.dataDirectory = dataDirectory;
+        this.capacity = capacity;
+        this.loaded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Tenant> eldest) {
+                if (size() <= TaskListRegistry.this.capacity) {
+                    return false;
+                }
+                evict(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Checks whether a tenant ID may be used. IDs are used as file names, so only letters, digits,
+     * '-' and '_' are allowed.
+     *
+     * @param tenantId The tenant ID
+     * @return True if the ID is valid
+     */
+    public static boolean isValidTenantId(String tenantId) {
+        return TENANT_ID.matcher(tenantId).matches();
+    }
+
+    /**
+     * Returns a tenant's task list, loading it from disk if it is not in memory.
+     *
+     * @param tenantId The tenant ID
+     * @return The tenant's task list
+     * @throws TaskLoadingException If the tenant's file cannot be read
+     * @throws IllegalArgumentException If the tenant ID is not valid
+     */
+    public TaskList get(String tenantId) throws TaskLoadingException {
+        return acquire(tenantId).getTasks();
+    }
+
+    /**
+     * Returns a tenant's task list and lock, loading the list from disk if it is not in memory.
+     *
+     * @param tenantId The tenant ID
+     * @return The tenant
+     * @throws TaskLoadingException If the tenant's file cannot be read
+     * @throws IllegalArgumentException If the tenant ID is not valid
+     */
+    synchronized Tenant acquire(String tenantId) throws TaskLoadingException {
+        if (!isValidTenantId(tenantId)) {
+            throw new IllegalArgumentException("Invalid tenant ID: " + tenantId);
+        }
+        Tenant tenant = loaded.get(tenantId);
+        if (tenant != null) {
+            hits++;
+            return tenant;
+        }
+        misses++;
+        Storage storage = new Storage(dataDirectory.resolve(tenantId + ".txt").toString());
+        tenant = new Tenant(new TaskList(storage.load(), storage), storage);
+        loaded.put(tenantId, tenant);
+        return tenant;
+    }
+
+    /**
+     * Flushes a list that is being dropped, waiting for commands that are using it to finish first.
+     *
+     * @param tenant The tenant being evicted
+     */
+    private void evict(Tenant tenant) {
+        tenant.lock.writeLock().lock();
+        try {
+            tenant.tasks.flush();
+            tenant.isEvicted = true;
+        } finally {
+            tenant.lock.writeLock().unlock();
+        }
+        evictions++;
+    }
+
+    /**
+     * Flushes every list in memory, for example before shutting down.
+     */
+    public synchronized void flushAll() {
+        for (Tenant tenant : loaded.values()) {
+            tenant.lock.writeLock().lock();
+            try {
+                tenant.tasks.flush();
+            } finally {
+                tenant.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found the list already in memory.
+     *
+     * @return The hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to read the list from disk.
+     *
+     * @return The miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of lists dropped from memory to stay within the capacity.
+     *
+     * @return The eviction count
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of lists currently in memory.
+     *
+     * @return The number of loaded lists
+     */
+    public synchronized int size() {
+        return loaded.size();
+    }
+
+    /**
+     * Returns the maximum number of lists kept in memory.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
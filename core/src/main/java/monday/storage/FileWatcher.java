@@ -0,0 +1,72 @@
+package monday.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Watches a data file for changes and runs a callback on a background thread when it is modified.
+ * Events for Storage's own saves are reported too; {@link Storage#readExternalChanges()} recognises them
+ * from the file's size, modification time and content hash and returns no change.
+ */
+public class FileWatcher implements Closeable {
+    private final Path file;
+    private final Runnable onChange;
+    private final WatchService watchService;
+
+    /**
+     * Starts watching a file.
+     *
+     * @param file The file to watch; its directory is created if needed
+     * @param onChange The callback to run, on the watcher thread, after the file was created or modified
+     * @throws IOException If the directory cannot be watched
+     */
+    public FileWatcher(Path file, Runnable onChange) throws IOException {
+        this.file = file.toAbsolutePath().normalize();
+        this.onChange = onChange;
+        Path directory = this.file.getParent();
+        Files.createDirectories(directory);
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::watch, "monday-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    isChanged |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (isChanged) {
+                    onChange.run();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // the watcher was closed
+        }
+    }
+
+    /**
+     * Stops watching the file.
+     *
+     * @throws IOException If the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
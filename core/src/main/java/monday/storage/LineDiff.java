@@ -0,0 +1,161 @@
+package monday.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single block of changed lines between two versions of a file, found by trimming the lines the two
+ * versions have in common at the start and at the end. Edits made by another program between two saves
+ * are usually a handful of adjacent lines, so one block describes them without a full diff.
+ *
+ * <p>The old version is given as line hashes, so that the lines of a large file need not be kept between
+ * saves; only the inserted lines of the new version are kept.</p>
+ */
+class LineDiff {
+    private final int start;
+    private final int removedCount;
+    private final List<String> inserted;
+
+    /**
+     * Constructs a change that replaces {@code removedCount} lines at {@code start} with the inserted lines.
+     *
+     * @param start The index of the first changed line in the old version
+     * @param removedCount The number of lines removed from the old version
+     * @param inserted The lines that take their place
+     */
+    LineDiff(int start, int removedCount, List<String> inserted) {
+        this.start = start;
+        this.removedCount = removedCount;
+        this.inserted = inserted;
+    }
+
+    /**
+     * Finds the block of lines that differs between two versions.
+     *
+     * @param before The hashes of the old lines, as returned by {@link #hashAll(List)}
+     * @param after The new lines
+     * @return The change, or null if both versions are equal
+     */
+    static LineDiff between(long[] before, List<String> after) {
+        int prefix = 0;
+        int maxPrefix = Math.min(before.length, after.size());
+        while (prefix < maxPrefix && before[prefix] == hash(after.get(prefix))) {
+            prefix++;
+        }
+        if (prefix == before.length && prefix == after.size()) {
+            return null;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && before[before.length - 1 - suffix] == hash(after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+        return new LineDiff(prefix, before.length - prefix - suffix,
+                new ArrayList<>(after.subList(prefix, after.size() - suffix)));
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of a line, so that lines can be told apart without keeping them.
+     *
+     * @param line The line
+     * @return The hash
+     */
+    static long hash(String line) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < line.length(); i++) {
+            hash = (hash ^ line.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hashes of the given lines.
+     *
+     * @param lines The lines
+     * @return The hash of each line, in order
+     */
+    static long[] hashAll(List<String> lines) {
+        long[] hashes = new long[lines.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = hash(lines.get(i));
+        }
+        return hashes;
+    }
+
+    int getStart() {
+        return start;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    List<String> getInserted() {
+        return inserted;
+    }
+
+    /**
+     * Returns the index just past the last removed line in the old version.
+     *
+     * @return The end of the removed range
+     */
+    int getEnd() {
+        return start + removedCount;
+    }
+
+    /**
+     * Checks whether this change and another change to the same old version touch the same lines.
+     * Two changes starting at the same position conflict unless both only insert lines, such as two programs
+     * each appending a task, in which case both sets of lines are kept.
+     *
+     * @param other The other change
+     * @return True if the changes cannot both be applied
+     */
+    boolean conflictsWith(LineDiff other) {
+        if (start == other.start) {
+            return removedCount > 0 || other.removedCount > 0;
+        }
+        return start < other.getEnd() && other.start < getEnd();
+    }
+
+    /**
+     * Returns this change moved to account for another, earlier change that has already been applied.
+     * When both only insert lines at the same position, this change's lines go before the applied ones.
+     *
+     * @param applied A change that does not conflict with this one
+     * @return This change in the coordinates of the version with {@code applied} applied
+     */
+    LineDiff after(LineDiff applied) {
+        if (applied.start > start || (applied.start == start && applied.removedCount == 0 && removedCount == 0)) {
+            return this;
+        }
+        return new LineDiff(start + applied.inserted.size() - applied.removedCount, removedCount, inserted);
+    }
+
+    /**
+     * Applies this change to a list of lines in place.
+     *
+     * @param lines The lines of the version this change is based on
+     */
+    void applyTo(List<String> lines) {
+        List<String> region = lines.subList(start, getEnd());
+        region.clear();
+        region.addAll(inserted);
+    }
+
+    /**
+     * Applies this change to the hashes of a version's lines.
+     *
+     * @param hashes The line hashes of the version this change is based on
+     * @return The line hashes of the changed version
+     */
+    long[] applyTo(long[] hashes) {
+        long[] result = Arrays.copyOf(hashes, hashes.length - removedCount + inserted.size());
+        System.arraycopy(hashes, getEnd(), result, start + inserted.size(), hashes.length - getEnd());
+        for (int i = 0; i < inserted.size(); i++) {
+            result[start + i] = hash(inserted.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,729 @@
+package monday.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import monday.exception.TaskLoadingException;
+import monday.metrics.LatencyHistogram;
+import monday.metrics.Metrics;
+import monday.task.Task;
+import monday.task.Todo;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.ui.ConsoleSink;
+import monday.ui.ResponseSink;
+
+/**
+ * Handles file storage operations for task persistence.
+ * Follows Single Responsibility Principle - only handles file I/O operations.
+ *
+ * <p>Several programs may share one data file. Reads take a shared lock and writes an exclusive lock on the
+ * file, and Storage remembers a hash of each line it last read or wrote. Changes made by another program are
+ * then found by comparing the file with those hashes and are handed back as an {@link ExternalChange}, so the
+ * task list only needs to replace the tasks on the changed lines.</p>
+ *
+ * <p>File locks are held by the whole program, and asking for one that the program already holds fails.
+ * Storages for the same file, such as those of two server connections, therefore also take turns on a lock
+ * shared by every Storage for that path before locking the file.</p>
+ */
+public class Storage {
+    private final String filePath;
+    private static final String SEPARATOR = " | ";
+    /** Minimum number of bytes read between two progress reports. */
+    private static final long PROGRESS_INTERVAL = 1 << 18;
+    private static final LatencyHistogram LOAD_TIME = Metrics.histogram("storage load");
+    private static final LatencyHistogram SAVE_TIME = Metrics.histogram("storage save");
+    /** One lock for each data file in use, shared by all Storages for that file. */
+    private static final Map<Path, Object> PATH_LOCKS = new ConcurrentHashMap<>();
+    /** Longest span of time that file systems round to a single modification time, two seconds on FAT. */
+    private static final long MODIFIED_TIME_RESOLUTION_MILLIS = 2000;
+
+    /** Where warnings go when no command is running, such as during a reload from the file watcher. */
+    private static final ResponseSink CONSOLE = new ConsoleSink();
+
+    private final Object pathLock;
+    private ResponseSink warnings;
+
+    /** Hashes of the non-blank lines of the file as of the last load, save or reload; the lines are not kept. */
+    private long[] syncedHashes = new long[0];
+    /** Which of the synced lines hold a valid task. */
+    private BitSet syncedValid = new BitSet();
+    /** Size, modification time and content hash of the file as of the last load, save or reload. */
+    private long syncedSize = -1;
+    private FileTime syncedModified;
+    private long syncedContentHash;
+    /** Whether the synced content was confirmed after its modification time could no longer be reused. */
+    private boolean isSyncSettled;
+
+    /**
+     * Receives progress reports while a data file is being loaded.
+     */
+    public interface ProgressListener {
+        /**
+         * Called periodically during loading, and once more when the whole file has been read.
+         *
+         * @param bytesRead The number of bytes read so far
+         * @param totalBytes The size of the file in bytes
+         */
+        void onProgress(long bytesRead, long totalBytes);
+    }
+
+    /**
+     * A change to the data file made by another program: a run of tasks that was replaced by other tasks.
+     */
+    public static class ExternalChange {
+        private final int index;
+        private final int removedCount;
+        private final List<Task> addedTasks;
+
+        ExternalChange(int index, int removedCount, List<Task> addedTasks) {
+            this.index = index;
+            this.removedCount = removedCount;
+            this.addedTasks = addedTasks;
+        }
+
+        /**
+         * Returns the 0-based position in the task list of the first replaced task.
+         *
+         * @return The position of the change
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the number of tasks removed at the position.
+         *
+         * @return The number of removed tasks
+         */
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        /**
+         * Returns the tasks inserted at the position, in order.
+         *
+         * @return The added tasks
+         */
+        public List<Task> getAddedTasks() {
+            return addedTasks;
+        }
+    }
+
+    /**
+     * Constructs a Storage instance with the specified file path.
+     *
+     * @param filePath The path to the file where tasks will be stored
+     */
+    public Storage(String filePath) {
+        this.filePath = filePath;
+        this.pathLock = PATH_LOCKS.computeIfAbsent(getPath().toAbsolutePath().normalize(), path -> new Object());
+    }
+
+    /**
+     * Sets where warnings are written, such as a failed save or a skipped line, so that they appear in the
+     * response of the command that caused them.
+     *
+     * @param warnings The sink to write warnings to, or null to write them to the console
+     */
+    public synchronized void setWarningSink(ResponseSink warnings) {
+        this.warnings = warnings;
+    }
+
+    /**
+     * Writes a warning line to the warning sink and flushes it.
+     */
+    private void warn(String message) {
+        ResponseSink sink = warnings != null ? warnings : CONSOLE;
+        synchronized (sink) {
+            sink.println(message);
+            sink.flush();
+        }
+    }
+
+    /**
+     * Returns the path of the data file.
+     *
+     * @return The data file's path
+     */
+    public Path getPath() {
+        return Path.of(filePath);
+    }
+
+    /**
+     * Saves all tasks to file in the specified format, holding an exclusive lock on the file while writing.
+     * Format: TaskType | Status | Description | [Additional fields]
+     *
+     * <p>If another program changed the file since it was last read or written here, and its changes do not
+     * touch the same lines as the tasks being saved, both sets of changes are kept: the file gets both, and
+     * the other program's changes are returned so they can be applied to the task list. Tasks that both
+     * added at the same place, such as at the end, are all kept, the other program's first. If the changes
+     * overlap, the tasks being saved win and a warning is printed.</p>
+     *
+     * @param tasks The list of tasks to save
+     * @return The other program's changes that were merged in, or null if there were none
+     */
+    public synchronized ExternalChange save(ArrayList<Task> tasks) {
+        long start = System.nanoTime();
+        try {
+            return saveLines(tasks);
+        } finally {
+            SAVE_TIME.recordSince(start);
+        }
+    }
+
+    /**
+     * Formats and writes the tasks as described in {@link #save(ArrayList)}.
+     *
+     * @param tasks The list of tasks to save
+     * @return The other program's changes that were merged in, or null if there were none
+     */
+    private ExternalChange saveLines(ArrayList<Task> tasks) {
+        List<String> lines = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            lines.add(formatTaskForFile(task));
+        }
+        try {
+            createDataDirectoryIfNotExists();
+            synchronized (pathLock) {
+                return writeLines(lines);
+            }
+        } catch (IOException e) {
+            // For save operations, we print error but don't throw exception
+            // to avoid disrupting the user experience during normal operations
+            warn("Warning: Could not save tasks to file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the lines to the file under an exclusive lock, first merging in other programs' changes.
+     *
+     * @param lines The lines to save, updated in place with merged changes
+     * @return The other program's changes that were merged in, or null if there were none
+     * @throws IOException If the file cannot be read or written
+     */
+    private ExternalChange writeLines(List<String> lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(getPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.lock(); // released when the channel is closed
+            ExternalChange change = null;
+            List<String> current = readLinesIfChanged(channel);
+            if (current != null) {
+                LineDiff external = LineDiff.between(syncedHashes, current);
+                if (external != null) {
+                    change = mergeExternalChange(external, lines);
+                }
+            }
+            channel.truncate(0);
+            channel.position(0);
+            Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (String line : lines) {
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+            writer.flush(); // not closed, as that would close the channel before the lock is released
+            Metrics.addBytesWritten(channel.size());
+            syncedValid = new BitSet(lines.size());
+            syncedValid.set(0, lines.size());
+            recordSync(channel, LineDiff.hashAll(lines));
+            return change;
+        }
+    }
+
+    /**
+     * Merges another program's change into the lines about to be saved, if the two do not overlap.
+     *
+     * @param external The other program's change, relative to the synced lines
+     * @param lines The lines about to be saved, updated in place with the merged result
+     * @return The other program's change as it applies to the task list, or null if it was discarded
+     */
+    private ExternalChange mergeExternalChange(LineDiff external, List<String> lines) {
+        LineDiff local = LineDiff.between(syncedHashes, lines);
+        if (local != null && external.conflictsWith(local)) {
+            warn("Warning: " + filePath + " was also changed by another program; "
+                    + "those changes were overwritten.");
+            return null;
+        }
+        List<Task> added = new ArrayList<>();
+        List<String> addedLines = new ArrayList<>();
+        for (String line : external.getInserted()) {
+            Task task = parseTaskFromLine(line);
+            if (task != null) {
+                added.add(task);
+                addedLines.add(formatTaskForFile(task));
+            }
+        }
+        // outside the local change the saved lines equal the synced ones, so every line is one task
+        LineDiff merged = new LineDiff(external.getStart(), external.getRemovedCount(), addedLines);
+        if (local != null) {
+            merged = merged.after(local);
+        }
+        merged.applyTo(lines);
+        return new ExternalChange(merged.getStart(), merged.getRemovedCount(), added);
+    }
+
+    /**
+     * Reads the changes another program made to the file since it was last read or written here.
+     * Only the lines that changed are parsed. Does nothing if the file is unchanged or missing.
+     *
+     * @return The change to apply to the task list, or null if there is none
+     */
+    public synchronized ExternalChange readExternalChanges() {
+        synchronized (pathLock) {
+            return readChangedLines();
+        }
+    }
+
+    /**
+     * Reads the changed lines as described in {@link #readExternalChanges()}.
+     *
+     * @return The change to apply to the task list, or null if there is none
+     */
+    private ExternalChange readChangedLines() {
+        try (FileChannel channel = FileChannel.open(getPath(), StandardOpenOption.READ)) {
+            channel.lock(0, Long.MAX_VALUE, true); // released when the channel is closed
+            List<String> current = readLinesIfChanged(channel);
+            if (current == null) {
+                return null;
+            }
+            LineDiff diff = LineDiff.between(syncedHashes, current);
+            if (diff == null) {
+                recordSync(channel, syncedHashes);
+                return null;
+            }
+            List<Task> added = new ArrayList<>();
+            BitSet addedValid = new BitSet();
+            for (int i = 0; i < diff.getInserted().size(); i++) {
+                Task task = parseTaskFromLine(diff.getInserted().get(i));
+                if (task != null) {
+                    added.add(task);
+                    addedValid.set(i);
+                }
+            }
+            int index = syncedValid.get(0, diff.getStart()).cardinality();
+            int removedCount = syncedValid.get(diff.getStart(), diff.getEnd()).cardinality();
+            syncedValid = replaceBits(syncedValid, syncedHashes.length, diff, addedValid);
+            recordSync(channel, diff.applyTo(syncedHashes));
+            return new ExternalChange(index, removedCount, added);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            warn("Warning: Could not read changes to " + filePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns a copy of a set of line flags with the flags of a changed block replaced.
+     */
+    private static BitSet replaceBits(BitSet bits, int size, LineDiff diff, BitSet inserted) {
+        int insertedCount = diff.getInserted().size();
+        BitSet result = new BitSet(size - diff.getRemovedCount() + insertedCount);
+        result.or(bits.get(0, diff.getStart()));
+        for (int i = inserted.nextSetBit(0); i >= 0; i = inserted.nextSetBit(i + 1)) {
+            result.set(diff.getStart() + i);
+        }
+        int shift = insertedCount - diff.getRemovedCount();
+        for (int i = bits.nextSetBit(diff.getEnd()); i >= 0 && i < size; i = bits.nextSetBit(i + 1)) {
+            result.set(i + shift);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the lines of the file if they may differ from the synced lines. A different size or modification
+     * time settles it. Otherwise another program may have written as many bytes within the resolution of the
+     * file system's modification times, so the content hash is computed as the file is read, without keeping
+     * the lines, and the lines are only read again if it differs. Once the content has been confirmed after
+     * that resolution has passed, any later write changes the modification time, and the file is not read
+     * again until the next sync.
+     *
+     * @param channel The open data file
+     * @return The lines of the file, or null if they are the synced lines
+     * @throws IOException If the file cannot be read
+     */
+    private List<String> readLinesIfChanged(FileChannel channel) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(getPath());
+        if (channel.size() != syncedSize || !modified.equals(syncedModified)) {
+            return readLines(channel);
+        }
+        if (isSyncSettled) {
+            return null;
+        }
+        if (readContentHash(channel) != syncedContentHash) {
+            return readLines(channel);
+        }
+        isSyncSettled = System.currentTimeMillis() - modified.toMillis() > MODIFIED_TIME_RESOLUTION_MILLIS;
+        return null;
+    }
+
+    private void recordSync(FileChannel channel, long[] hashes) throws IOException {
+        syncedHashes = hashes;
+        syncedSize = channel.size();
+        syncedModified = Files.getLastModifiedTime(getPath());
+        syncedContentHash = contentHash(hashes);
+        isSyncSettled = false;
+    }
+
+    private static long contentHash(long[] hashes) {
+        long hash = 1;
+        for (long lineHash : hashes) {
+            hash = hash * 31 + lineHash;
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the content hash of the non-blank lines of the file, trimmed, as {@link #contentHash(long[])}
+     * does for their line hashes.
+     */
+    private static long readContentHash(FileChannel channel) throws IOException {
+        channel.position(0);
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        long hash = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty()) {
+                hash = hash * 31 + LineDiff.hash(line);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Reads the non-blank lines of the file from the start, trimmed, leaving the channel open.
+     */
+    private static List<String> readLines(FileChannel channel) throws IOException {
+        channel.position(0);
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Loads tasks from file and returns them as an ArrayList.
+     * Handles missing file gracefully by returning empty list.
+     *
+     * @return ArrayList of tasks loaded from file
+     * @throws TaskLoadingException If there's an error reading or parsing the file
+     */
+    public ArrayList<Task> load() throws TaskLoadingException {
+        return load((bytesRead, totalBytes) -> { });
+    }
+
+    /**
+     * Loads tasks from file, reporting how much of the file has been read as it goes.
+     * Handles missing file gracefully by returning empty list.
+     *
+     * @param progress The listener to report progress to, called on the loading thread
+     * @return ArrayList of tasks loaded from file
+     * @throws TaskLoadingException If there's an error reading or parsing the file
+     */
+    public synchronized ArrayList<Task> load(ProgressListener progress) throws TaskLoadingException {
+        long start = System.nanoTime();
+        try {
+            return readTasks(progress);
+        } finally {
+            LOAD_TIME.recordSince(start);
+        }
+    }
+
+    /**
+     * Reads and parses the whole file as described in {@link #load(ProgressListener)}.
+     *
+     * @param progress The listener to report progress to
+     * @return ArrayList of tasks loaded from file
+     * @throws TaskLoadingException If there's an error reading or parsing the file
+     */
+    private ArrayList<Task> readTasks(ProgressListener progress) throws TaskLoadingException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        File file = new File(filePath);
+
+        if (!file.exists()) {
+            return tasks; // Return empty list if file doesn't exist
+        }
+
+        synchronized (pathLock) {
+            parseFile(tasks, progress);
+        }
+        return tasks;
+    }
+
+    /**
+     * Parses every line of the file under a shared lock and records their hashes as the synced lines.
+     *
+     * @param tasks The list to add the parsed tasks to
+     * @param progress The listener to report progress to
+     * @throws TaskLoadingException If there's an error reading or parsing the file
+     */
+    private void parseFile(ArrayList<Task> tasks, ProgressListener progress) throws TaskLoadingException {
+        long[] hashes = new long[16];
+        int lineCount = 0;
+        BitSet valid = new BitSet();
+        try (FileChannel channel = FileChannel.open(getPath(), StandardOpenOption.READ)) {
+            channel.lock(0, Long.MAX_VALUE, true); // released when the channel is closed
+            long totalBytes = channel.size();
+            CountingInputStream input = new CountingInputStream(Channels.newInputStream(channel));
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            long nextReport = PROGRESS_INTERVAL;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    Task task = parseTaskFromLine(line);
+                    if (task != null) {
+                        tasks.add(task);
+                        valid.set(lineCount);
+                    }
+                    if (lineCount == hashes.length) {
+                        hashes = Arrays.copyOf(hashes, lineCount * 2);
+                    }
+                    hashes[lineCount++] = LineDiff.hash(line);
+                }
+                if (input.getCount() >= nextReport) {
+                    progress.onProgress(input.getCount(), totalBytes);
+                    nextReport = input.getCount() + PROGRESS_INTERVAL;
+                }
+            }
+            progress.onProgress(input.getCount(), totalBytes);
+            syncedValid = valid;
+            recordSync(channel, Arrays.copyOf(hashes, lineCount));
+        } catch (NoSuchFileException e) {
+            throw new TaskLoadingException("Data file not found", e);
+        } catch (Exception e) {
+            throw new TaskLoadingException("Failed to read or parse data file", e);
+        }
+    }
+
+    /**
+     * Creates the data directory if it doesn't exist.
+     * Handles the case where parent directories need to be created.
+     */
+    private void createDataDirectoryIfNotExists() {
+        File file = new File(filePath);
+        File parentDir = file.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+    }
+
+    /**
+     * Formats a task object into the file format string.
+     * Uses polymorphism to handle different task types appropriately.
+     * Format includes priority as the last field.
+     *
+     * @param task The task to format
+     * @return The formatted string representation
+     */
+    private String formatTaskForFile(Task task) {
+        String status = task.isDone() ? "1" : "0";
+        String priority = task.getPriority().name();
+
+        if (task instanceof Todo) {
+            return "T" + SEPARATOR + status + SEPARATOR + task.getDescription() + SEPARATOR + priority;
+        } else if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            String dueDateStr = deadline.getDueDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+            return "D" + SEPARATOR + status + SEPARATOR + task.getDescription() + SEPARATOR + dueDateStr + SEPARATOR + priority
+                    + formatRecurrence(deadline.getRecurrence());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            String startTimeStr = event.getStartDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+            String endTimeStr = event.getEndDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+            return "E" + SEPARATOR + status + SEPARATOR + task.getDescription() + SEPARATOR + startTimeStr + SEPARATOR + endTimeStr + SEPARATOR + priority
+                    + formatRecurrence(event.getRecurrence());
+        } else {
+            // Base Task class - treat as Todo
+            return "T" + SEPARATOR + status + SEPARATOR + task.getDescription() + SEPARATOR + priority;
+        }
+    }
+
+    /**
+     * Formats the optional last field of a repeating deadline or event: the frequency and the dates of
+     * completed occurrences, such as {@code week;2025-03-03}. Occurrences themselves are not stored.
+     *
+     * @param recurrence The task's recurrence, or null if it happens once
+     * @return The field with its leading separator, or an empty string
+     */
+    private static String formatRecurrence(Recurrence recurrence) {
+        return recurrence == null ? "" : SEPARATOR + recurrence.toStoredForm();
+    }
+
+    /**
+     * Parses a line from the file back into a Task object.
+     * Implements error handling for corrupted data.
+     * Handles both old format (without priority) and new format (with priority).
+     *
+     * @param line The line to parse
+     * @return The parsed Task object, or null if parsing fails
+     */
+    private Task parseTaskFromLine(String line) {
+        try {
+            String[] parts = line.split("\\" + SEPARATOR.trim() + "\\s*");
+            if (parts.length < 3) {
+                warn("Skipping corrupted line: " + line);
+                return null;
+            }
+
+            String taskType = parts[0].trim();
+            boolean isDone = "1".equals(parts[1].trim());
+            String description = parts[2].trim();
+
+            Task task = null;
+
+            switch (taskType) {
+                case "T":
+                    Task.Priority todoPriority = parseTaskPriority(parts, 3);
+                    task = new Todo(description, todoPriority);
+                    break;
+                case "D":
+                    if (parts.length >= 4) {
+                        String dueDateTimeStr = parts[3].trim();
+                        Task.Priority deadlinePriority = parseTaskPriority(parts, 4);
+                        try {
+                            // Parse the stored date format back to LocalDateTime
+                            LocalDateTime dueDateTime = LocalDateTime.parse(dueDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+                            Deadline deadline = new Deadline(description, dueDateTime, deadlinePriority);
+                            if (parts.length > 5) {
+                                deadline.setRecurrence(Recurrence.fromStoredForm(parts[5]));
+                            }
+                            task = deadline;
+                        } catch (Exception e) {
+                            // Log but don't throw - just skip corrupted entries
+                            warn("Skipping corrupted deadline date: " + line);
+                            return null;
+                        }
+                    } else {
+                        warn("Skipping corrupted deadline: " + line);
+                        return null;
+                    }
+                    break;
+                case "E":
+                    if (parts.length >= 5) {
+                        String startTimeStr = parts[3].trim();
+                        String endTimeStr = parts[4].trim();
+                        Task.Priority eventPriority = parseTaskPriority(parts, 5);
+                        try {
+                            // Parse the stored date format back to LocalDateTime
+                            LocalDateTime startDateTime = LocalDateTime.parse(startTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+                            LocalDateTime endDateTime = LocalDateTime.parse(endTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+                            Event event = new Event(description, startDateTime, endDateTime, eventPriority);
+                            if (parts.length > 6) {
+                                event.setRecurrence(Recurrence.fromStoredForm(parts[6]));
+                            }
+                            task = event;
+                        } catch (Exception e) {
+                            // Log but don't throw - just skip corrupted entries
+                            warn("Skipping corrupted event dates: " + line);
+                            return null;
+                        }
+                    } else {
+                        warn("Skipping corrupted event: " + line);
+                        return null;
+                    }
+                    break;
+                default:
+                    warn("Unknown task type, skipping: " + line);
+                    return null;
+            }
+
+            // a repeating task keeps its completed occurrences in its recurrence instead
+            if (task != null && isDone && !task.isRepeating()) {
+                task.markAsDone();
+            }
+
+            return task;
+
+        } catch (Exception e) {
+            warn("Error parsing line '" + line + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Parses priority from file parts, handling backward compatibility.
+     *
+     * @param parts The split line parts
+     * @param priorityIndex The expected index of the priority field
+     * @return The parsed Priority, or MEDIUM if not found/invalid
+     */
+    private Task.Priority parseTaskPriority(String[] parts, int priorityIndex) {
+        if (parts.length <= priorityIndex) {
+            return Task.Priority.MEDIUM; // Default for old format files
+        }
+
+        try {
+            return Task.Priority.valueOf(parts[priorityIndex].trim());
+        } catch (IllegalArgumentException e) {
+            warn("Invalid priority value, using MEDIUM as default: " + parts[priorityIndex]);
+            return Task.Priority.MEDIUM;
+        }
+    }
+
+    /**
+     * An input stream that counts the bytes read through it, used for load progress.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
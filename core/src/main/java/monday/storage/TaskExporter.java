@@ -0,0 +1,267 @@
+package monday.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+
+import monday.exception.TaskTransferException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.task.Task;
+
+/**
+ * Writes tasks to CSV or JSON files for use in other tools.
+ * Tasks are streamed one at a time through a buffered writer, so memory use does not grow with the export size.
+ * Repeating tasks carry their recurrence in the same form as the data file, including completed occurrences.
+ */
+public class TaskExporter {
+    /** Header row written at the start of every CSV export. */
+    static final String CSV_HEADER = "type,done,priority,description,start,end,recurrence";
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Supported export formats.
+     */
+    public enum Format {
+        CSV, JSON;
+
+        /**
+         * Returns the format with the given name, ignoring case.
+         *
+         * @param name The format name (csv or json)
+         * @return The matching format, or null if the name is not recognised
+         */
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name.trim())) {
+                    return format;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Guesses the format from a file name, defaulting to CSV.
+         *
+         * @param fileName The name of the file
+         * @return JSON if the file name ends with .json, CSV otherwise
+         */
+        public static Format fromFileName(String fileName) {
+            return fileName.toLowerCase().endsWith(".json") ? JSON : CSV;
+        }
+    }
+
+    /**
+     * Exports the given tasks to a file.
+     *
+     * @param tasks The tasks to export, visited in order
+     * @param filePath The file to write to, replaced if it exists
+     * @param format The output format
+     * @return The number of tasks written
+     * @throws TaskTransferException If the file cannot be written
+     */
+    public static int export(Iterable<Task> tasks, String filePath, Format format) throws TaskTransferException {
+        Path path = Path.of(filePath);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                return format == Format.JSON ? writeJson(tasks, writer) : writeCsv(tasks, writer);
+            }
+        } catch (IOException e) {
+            throw new TaskTransferException(filePath + " (" + e.getMessage() + ")", e);
+        }
+    }
+
+    /**
+     * Writes tasks as CSV with a header row.
+     *
+     * @param tasks The tasks to write
+     * @param writer The writer to write to
+     * @return The number of tasks written
+     * @throws IOException If writing fails
+     */
+    static int writeCsv(Iterable<Task> tasks, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        int count = 0;
+        for (Task task : tasks) {
+            writer.write(typeName(task));
+            writer.write(',');
+            writer.write(task.isDone() ? "true" : "false");
+            writer.write(',');
+            writer.write(task.getPriority().toString());
+            writer.write(',');
+            writeCsvField(writer, task.getDescription());
+            writer.write(',');
+            if (task instanceof Deadline) {
+                DATE_FORMAT.formatTo(((Deadline) task).getDueDateTime(), writer);
+                writer.write(',');
+            } else if (task instanceof Event) {
+                DATE_FORMAT.formatTo(((Event) task).getStartDateTime(), writer);
+                writer.write(',');
+                DATE_FORMAT.formatTo(((Event) task).getEndDateTime(), writer);
+            } else {
+                writer.write(',');
+            }
+            writer.write(',');
+            Recurrence recurrence = recurrenceOf(task);
+            if (recurrence != null) {
+                writeCsvField(writer, recurrence.toStoredForm());
+            }
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes tasks as a JSON array with one object per line.
+     *
+     * @param tasks The tasks to write
+     * @param writer The writer to write to
+     * @return The number of tasks written
+     * @throws IOException If writing fails
+     */
+    static int writeJson(Iterable<Task> tasks, Writer writer) throws IOException {
+        writer.write('[');
+        int count = 0;
+        for (Task task : tasks) {
+            writer.write(count == 0 ? "\n" : ",\n");
+            writer.write("{\"type\":\"");
+            writer.write(typeName(task));
+            writer.write("\",\"done\":");
+            writer.write(task.isDone() ? "true" : "false");
+            writer.write(",\"priority\":\"");
+            writer.write(task.getPriority().toString());
+            writer.write("\",\"description\":");
+            writeJsonString(writer, task.getDescription());
+            if (task instanceof Deadline) {
+                writer.write(",\"by\":\"");
+                DATE_FORMAT.formatTo(((Deadline) task).getDueDateTime(), writer);
+                writer.write('"');
+            } else if (task instanceof Event) {
+                writer.write(",\"from\":\"");
+                DATE_FORMAT.formatTo(((Event) task).getStartDateTime(), writer);
+                writer.write("\",\"to\":\"");
+                DATE_FORMAT.formatTo(((Event) task).getEndDateTime(), writer);
+                writer.write('"');
+            }
+            Recurrence recurrence = recurrenceOf(task);
+            if (recurrence != null) {
+                writer.write(",\"recurrence\":");
+                writeJsonString(writer, recurrence.toStoredForm());
+            }
+            writer.write('}');
+            count++;
+        }
+        writer.write("\n]\n");
+        return count;
+    }
+
+    /**
+     * Returns the name used for a task's type in exported files.
+     *
+     * @param task The task
+     * @return todo, deadline or event
+     */
+    private static String typeName(Task task) {
+        if (task instanceof Deadline) {
+            return "deadline";
+        } else if (task instanceof Event) {
+            return "event";
+        } else {
+            return "todo";
+        }
+    }
+
+    /**
+     * Returns how a task repeats.
+     *
+     * @param task The task
+     * @return The recurrence of a repeating deadline or event, or null
+     */
+    private static Recurrence recurrenceOf(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getRecurrence();
+        } else if (task instanceof Event) {
+            return ((Event) task).getRecurrence();
+        }
+        return null;
+    }
+
+    /**
+     * Writes a CSV field, quoting it if it contains a comma, quote or line break.
+     *
+     * @param writer The writer to write to
+     * @param value The field value
+     * @throws IOException If writing fails
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Writes a JSON string literal, escaping quotes, backslashes and control characters.
+     *
+     * @param writer The writer to write to
+     * @param value The string value
+     * @throws IOException If writing fails
+     */
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                writer.write("\\\"");
+                break;
+            case '\\':
+                writer.write("\\\\");
+                break;
+            case '\n':
+                writer.write("\\n");
+                break;
+            case '\r':
+                writer.write("\\r");
+                break;
+            case '\t':
+                writer.write("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    writer.write(String.format("\\u%04x", (int) c));
+                } else {
+                    writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
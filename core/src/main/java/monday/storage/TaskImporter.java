@@ -0,0 +1,476 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import monday.exception.TaskTransferException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.Todo;
+
+/**
+ * Reads tasks from CSV or JSON files produced by {@link TaskExporter}.
+ * Records are parsed one at a time into fixed-size batches, which are added to the task list only once
+ * the whole file has been read, followed by a single save. A file that turns out to be malformed part of
+ * the way through therefore leaves the list unchanged.
+ */
+public class TaskImporter {
+    /** Number of tasks in each array handed to {@link TaskList#addBatches(List)}. */
+    static final int BATCH_SIZE = 1000;
+
+    /**
+     * Outcome of an import.
+     */
+    public static class Result {
+        private final int imported;
+        private final int skipped;
+
+        Result(int imported, int skipped) {
+            this.imported = imported;
+            this.skipped = skipped;
+        }
+
+        /**
+         * Returns the number of tasks that were added to the list.
+         *
+         * @return The number of imported tasks
+         */
+        public int getImported() {
+            return imported;
+        }
+
+        /**
+         * Returns the number of records that could not be turned into tasks.
+         *
+         * @return The number of skipped records
+         */
+        public int getSkipped() {
+            return skipped;
+        }
+    }
+
+    /**
+     * Imports all tasks from a file into the given task list.
+     * The format is detected from the first non-blank character: '[' for JSON, anything else for CSV.
+     *
+     * @param filePath The file to read
+     * @param taskList The task list to add the tasks to
+     * @return The number of imported and skipped records
+     * @throws TaskTransferException If the file cannot be read or is not well-formed, in which case no tasks
+     *     are added
+     */
+    public static Result importTasks(String filePath, TaskList taskList) throws TaskTransferException {
+        Batch batch = new Batch();
+        try (CharSource source = new CharSource(
+                new InputStreamReader(Files.newInputStream(Path.of(filePath)), StandardCharsets.UTF_8))) {
+            int first = source.peekNonBlank();
+            if (first == '[') {
+                readJson(source, batch);
+            } else if (first != -1) {
+                readCsv(source, batch);
+            }
+        } catch (NoSuchFileException e) {
+            throw new TaskTransferException("file not found: " + filePath, e);
+        } catch (IOException e) {
+            throw new TaskTransferException(filePath + " (" + e.getMessage() + ")", e);
+        }
+        taskList.deferAutoSave();
+        try {
+            batch.addTo(taskList);
+        } finally {
+            taskList.resumeAutoSave();
+        }
+        return new Result(batch.imported, batch.skipped);
+    }
+
+    /**
+     * Reads CSV records, skipping the header row if present.
+     *
+     * @param source The characters to read
+     * @param batch The batch to add parsed tasks to
+     * @throws IOException If reading fails or a quoted field is not terminated
+     */
+    private static void readCsv(CharSource source, Batch batch) throws IOException {
+        List<String> fields = new ArrayList<>();
+        boolean isFirst = true;
+        while (readCsvRecord(source, fields)) {
+            // the header of older exports has no recurrence column, so only its first field is compared
+            if (isFirst && fields.get(0).equalsIgnoreCase("type")) {
+                isFirst = false;
+                continue;
+            }
+            isFirst = false;
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            batch.add(fields.size() < 4 ? null : createTask(fields.get(0), fields.get(1), fields.get(2),
+                    fields.get(3), field(fields, 4), field(fields, 5), field(fields, 6)));
+        }
+    }
+
+    /**
+     * Reads a single CSV record, handling quoted fields that contain commas, quotes or line breaks.
+     *
+     * @param source The characters to read
+     * @param fields The list to fill with the record's fields
+     * @return False if the end of input was reached before any field was read
+     * @throws IOException If reading fails or a quoted field is not terminated
+     */
+    private static boolean readCsvRecord(CharSource source, List<String> fields) throws IOException {
+        fields.clear();
+        if (source.peek() == -1) {
+            return false;
+        }
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            int c = source.read();
+            if (isQuoted) {
+                if (c == -1) {
+                    throw new IOException("unterminated quoted field");
+                } else if (c == '"' && source.peek() == '"') {
+                    source.read();
+                    field.append('"');
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' && source.peek() == '\n') {
+                continue;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                fields.add(field.toString());
+                return true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Reads a JSON array of flat task objects.
+     *
+     * @param source The characters to read
+     * @param batch The batch to add parsed tasks to
+     * @throws IOException If reading fails or the input is not a JSON array of objects
+     */
+    private static void readJson(CharSource source, Batch batch) throws IOException {
+        Map<String, String> record = new HashMap<>();
+        expect(source, '[');
+        if (source.peekNonBlank() == ']') {
+            source.read();
+            return;
+        }
+        while (true) {
+            readJsonObject(source, record);
+            batch.add(createTask(record.get("type"), record.get("done"), record.get("priority"),
+                    record.get("description"), first(record.get("by"), record.get("from")), record.get("to"),
+                    record.get("recurrence")));
+            int c = source.readNonBlank();
+            if (c == ']') {
+                return;
+            } else if (c != ',') {
+                throw new IOException("expected ',' or ']' but found " + describe(c));
+            }
+        }
+    }
+
+    /**
+     * Reads one JSON object whose values are strings, booleans, numbers or null.
+     *
+     * @param source The characters to read
+     * @param record The map to fill with the object's members, as text
+     * @throws IOException If reading fails or the object is malformed
+     */
+    private static void readJsonObject(CharSource source, Map<String, String> record) throws IOException {
+        record.clear();
+        expect(source, '{');
+        if (source.peekNonBlank() == '}') {
+            source.read();
+            return;
+        }
+        while (true) {
+            expect(source, '"');
+            String key = readJsonString(source);
+            expect(source, ':');
+            record.put(key, readJsonValue(source));
+            int c = source.readNonBlank();
+            if (c == '}') {
+                return;
+            } else if (c != ',') {
+                throw new IOException("expected ',' or '}' but found " + describe(c));
+            }
+        }
+    }
+
+    /**
+     * Reads a JSON scalar value.
+     *
+     * @param source The characters to read
+     * @return The value as text, or null for a JSON null
+     * @throws IOException If reading fails or the value is not a scalar
+     */
+    private static String readJsonValue(CharSource source) throws IOException {
+        int c = source.readNonBlank();
+        if (c == '"') {
+            return readJsonString(source);
+        }
+        StringBuilder literal = new StringBuilder();
+        while (c != -1 && c != ',' && c != '}' && !Character.isWhitespace(c)) {
+            if (c == '{' || c == '[') {
+                throw new IOException("nested values are not supported");
+            }
+            literal.append((char) c);
+            c = source.read();
+        }
+        source.unread(c);
+        String value = literal.toString();
+        return "null".equals(value) ? null : value;
+    }
+
+    /**
+     * Reads the rest of a JSON string literal after its opening quote.
+     *
+     * @param source The characters to read
+     * @return The unescaped string
+     * @throws IOException If reading fails or the string is not terminated
+     */
+    private static String readJsonString(CharSource source) throws IOException {
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            int c = source.read();
+            if (c == -1) {
+                throw new IOException("unterminated string");
+            } else if (c == '"') {
+                return value.toString();
+            } else if (c != '\\') {
+                value.append((char) c);
+                continue;
+            }
+            int escaped = source.read();
+            switch (escaped) {
+            case 'n':
+                value.append('\n');
+                break;
+            case 'r':
+                value.append('\r');
+                break;
+            case 't':
+                value.append('\t');
+                break;
+            case 'b':
+                value.append('\b');
+                break;
+            case 'f':
+                value.append('\f');
+                break;
+            case 'u':
+                char[] hex = new char[4];
+                for (int i = 0; i < hex.length; i++) {
+                    hex[i] = (char) source.read();
+                }
+                try {
+                    value.append((char) Integer.parseInt(new String(hex), 16));
+                } catch (NumberFormatException e) {
+                    throw new IOException("invalid unicode escape \\u" + new String(hex));
+                }
+                break;
+            case -1:
+                throw new IOException("unterminated string");
+            default:
+                value.append((char) escaped);
+            }
+        }
+    }
+
+    /**
+     * Creates a task from the text fields of an imported record. The done flag of a repeating task is
+     * ignored, since its recurrence already records which occurrences are completed.
+     *
+     * @return The task, or null if the record is invalid
+     */
+    private static Task createTask(String type, String done, String priority, String description,
+            String start, String end, String recurrence) {
+        if (type == null || description == null) {
+            return null;
+        }
+        try {
+            Task.Priority taskPriority = priority == null || priority.isBlank()
+                    ? Task.Priority.MEDIUM
+                    : Task.Priority.valueOf(priority.trim().toUpperCase());
+            Task task;
+            switch (type.trim().toLowerCase()) {
+            case "todo":
+                task = new Todo(description, taskPriority);
+                break;
+            case "deadline":
+                Deadline deadline = new Deadline(description, parseDate(start), taskPriority);
+                deadline.setRecurrence(parseRecurrence(recurrence));
+                task = deadline;
+                break;
+            case "event":
+                Event event = new Event(description, parseDate(start), parseDate(end), taskPriority);
+                event.setRecurrence(parseRecurrence(recurrence));
+                task = event;
+                break;
+            default:
+                return null;
+            }
+            if (!task.isRepeating() && done != null
+                    && (done.trim().equalsIgnoreCase("true") || done.trim().equals("1"))) {
+                task.markAsDone();
+            }
+            return task;
+        } catch (IllegalArgumentException | NullPointerException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseDate(String text) {
+        return LocalDateTime.parse(text.trim(), TaskExporter.DATE_FORMAT);
+    }
+
+    private static Recurrence parseRecurrence(String text) {
+        return text == null || text.isBlank() ? null : Recurrence.fromStoredForm(text);
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static String first(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static void expect(CharSource source, char expected) throws IOException {
+        int c = source.readNonBlank();
+        if (c != expected) {
+            throw new IOException("expected '" + expected + "' but found " + describe(c));
+        }
+    }
+
+    private static String describe(int c) {
+        return c == -1 ? "end of file" : "'" + (char) c + "'";
+    }
+
+    /**
+     * Collects parsed tasks in fixed-size arrays, to be handed to the task list once parsing has succeeded.
+     * All arrays are added as one change, so a single undo removes the whole import. A new array is used
+     * for every batch since the task list keeps a reference to it for redo.
+     */
+    private static class Batch {
+        private final List<Task[]> full = new ArrayList<>();
+        private Task[] pending = new Task[BATCH_SIZE];
+        private int size;
+        private int imported;
+        private int skipped;
+
+        void add(Task task) {
+            if (task == null) {
+                skipped++;
+                return;
+            }
+            pending[size++] = task;
+            imported++;
+            if (size == pending.length) {
+                full.add(pending);
+                pending = new Task[BATCH_SIZE];
+                size = 0;
+            }
+        }
+
+        void addTo(TaskList taskList) {
+            if (size > 0) {
+                full.add(Arrays.copyOf(pending, size));
+                size = 0;
+            }
+            taskList.addBatches(full);
+        }
+    }
+
+    /**
+     * A buffered character reader with one character of lookahead.
+     */
+    private static class CharSource implements AutoCloseable {
+        private final Reader reader;
+        private final char[] buffer = new char[1 << 16];
+        private int position;
+        private int limit;
+
+        CharSource(Reader reader) {
+            this.reader = reader;
+        }
+
+        int read() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position++];
+        }
+
+        int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        void unread(int c) {
+            if (c != -1) {
+                position--;
+            }
+        }
+
+        int peekNonBlank() throws IOException {
+            int c = peek();
+            while (c != -1 && Character.isWhitespace(c)) {
+                position++;
+                c = peek();
+            }
+            return c;
+        }
+
+        int readNonBlank() throws IOException {
+            int c = peekNonBlank();
+            if (c != -1) {
+                position++;
+            }
+            return c;
+        }
+
+        private boolean fill() throws IOException {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
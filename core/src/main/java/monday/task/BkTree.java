@@ -0,0 +1,192 @@
+package monday.task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A set of words arranged as a Burkhard-Keller tree, for finding the words within a given Levenshtein
+ * distance of a search term. Each child of a node lies at a fixed distance from it, so by the triangle
+ * inequality a search only descends into the children whose distance is within the limit of the term's
+ * own distance, and most of the tree is never visited.
+ *
+ * <p>Removed words are only marked as removed, since taking a node out would break the distances of the
+ * nodes below it. The tree is rebuilt from the remaining words once removed ones outnumber them.</p>
+ */
+class BkTree {
+    private static final int MIN_REBUILD_SIZE = 64;
+
+    private static final class Node {
+        private final String word;
+        private boolean isLive = true;
+        private Node[] children;
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    private Node root;
+    private int size;
+    private int removedCount;
+
+    /**
+     * Adds a word. Adding a word that is already present has no effect.
+     *
+     * @param word The word to add
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (!node.isLive) {
+                    node.isLive = true;
+                    removedCount--;
+                    size++;
+                }
+                return;
+            }
+            if (node.children == null) {
+                node.children = new Node[distance + 1];
+            } else if (node.children.length <= distance) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = new Node(word);
+                size++;
+                return;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    /**
+     * Removes a word.
+     *
+     * @param word The word to remove
+     * @return False if the word was not present
+     */
+    boolean remove(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (!node.isLive) {
+                    return false;
+                }
+                node.isLive = false;
+                size--;
+                removedCount++;
+                if (removedCount > size && removedCount >= MIN_REBUILD_SIZE) {
+                    rebuild();
+                }
+                return true;
+            }
+            node = node.children != null && distance < node.children.length ? node.children[distance] : null;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all words.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     *
+     * @return The number of words
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes every word within the given distance of the term to the consumer, with its distance.
+     *
+     * @param term The word to search for
+     * @param maxDistance The largest distance to accept
+     * @param consumer Receives each matching word and its distance from the term
+     */
+    void search(String term, int maxDistance, ObjIntConsumer<String> consumer) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(term, node.word);
+            if (distance <= maxDistance && node.isLive) {
+                consumer.accept(node.word, distance);
+            }
+            if (node.children == null) {
+                continue;
+            }
+            int to = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(distance - maxDistance, 1); i <= to; i++) {
+                if (node.children[i] != null) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words: the fewest insertions, deletions and
+     * substitutions of single characters that turn one into the other.
+     *
+     * @param a The first word
+     * @param b The second word
+     * @return The edit distance
+     */
+    static int distance(String a, String b) {
+        if (a.length() < b.length()) {
+            String shorter = a;
+            a = b;
+            b = shorter;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Builds the tree again from its live words, dropping the removed ones.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>(size);
+        search("", Integer.MAX_VALUE / 2, (word, distance) -> words.add(word));
+        clear();
+        for (String word : words) {
+            add(word);
+        }
+    }
+}
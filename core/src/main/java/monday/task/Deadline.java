@@ -1,5 +1,7 @@
 package monday.task;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -10,7 +12,10 @@ import java.time.format.DateTimeParseException;
  * Deadlines are displayed with a [D] prefix and formatted due date.
  */
 public class Deadline extends Task {
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy h:mma");
+
     private LocalDateTime dueDateTime;
+    private Recurrence recurrence;
 
     /**
      * Constructs a new Deadline task with the specified description and due date string.
@@ -73,6 +78,63 @@ public class Deadline extends Task {
         return dueDateTime;
     }
 
+    /**
+     * Returns how this deadline repeats.
+     *
+     * @return The recurrence, or null if the deadline happens once
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Makes this deadline repeat, with its due date as the first occurrence.
+     *
+     * @param recurrence How the deadline repeats, or null to make it happen once
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Returns when the occurrence the user is working on is due: the due date, or for a repeating
+     * deadline the first pending occurrence from today on.
+     *
+     * @return The current due date and time
+     */
+    public LocalDateTime getCurrentDueDateTime() {
+        return recurrence == null ? dueDateTime : recurrence.current(dueDateTime, LocalDate.now());
+    }
+
+    @Override
+    public boolean isRepeating() {
+        return recurrence != null;
+    }
+
+    /**
+     * Marks this deadline as completed. For a repeating deadline, completes only the current occurrence.
+     */
+    @Override
+    public void markAsDone() {
+        if (recurrence == null) {
+            super.markAsDone();
+        } else {
+            recurrence.completeCurrent(dueDateTime, LocalDate.now());
+        }
+    }
+
+    /**
+     * Marks this deadline as not completed. For a repeating deadline, reopens the latest completed occurrence.
+     */
+    @Override
+    public void markAsNotDone() {
+        if (recurrence == null) {
+            super.markAsNotDone();
+        } else {
+            recurrence.reopenLatest();
+        }
+    }
+
     /**
      * Parses various date/time formats into a LocalDateTime object.
      * Supports the following formats:
@@ -106,11 +168,22 @@ public class Deadline extends Task {
         }
     }
 
+    /**
+     * Writes the display form of this deadline, formatting the due date straight into the output.
+     *
+     * @param out The output to write to
+     * @throws IOException If writing to the output fails
+     */
     @Override
-    public String toString() {
+    public void renderTo(Appendable out) throws IOException {
         // Display in user-friendly format: MMM dd yyyy h:mma
-        DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy h:mma");
-        return "[D]" + getStatusIcon() + " " + getPriorityIcon() + " " + description
-                + " (by: " + dueDateTime.format(displayFormatter) + ")";
+        out.append("[D]");
+        super.renderTo(out);
+        out.append(" (by: ");
+        DISPLAY_FORMAT.formatTo(getCurrentDueDateTime(), out);
+        if (recurrence != null) {
+            out.append(", every ").append(recurrence.getFrequency().toString());
+        }
+        out.append(')');
     }
 }
\ No newline at end of file
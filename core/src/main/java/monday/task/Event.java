@@ -1,12 +1,19 @@
 package monday.task;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 public class Event extends Task {
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy h:mma");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("h:mma");
+
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
+    private Recurrence recurrence;
 
     // Constructor that accepts strings and parses them to LocalDateTime
     public Event(String description, String startTimeStr, String endTimeStr) throws DateTimeParseException {
@@ -60,6 +67,63 @@ public class Event extends Task {
         return endDateTime;
     }
 
+    /**
+     * Returns how this event repeats.
+     *
+     * @return The recurrence, or null if the event happens once
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Makes this event repeat, with its start as the first occurrence. Every occurrence lasts as long as the first.
+     *
+     * @param recurrence How the event repeats, or null to make it happen once
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Returns when the occurrence the user is working on starts: the start, or for a repeating event
+     * the first pending occurrence from today on.
+     *
+     * @return The current start date and time
+     */
+    public LocalDateTime getCurrentStartDateTime() {
+        return recurrence == null ? startDateTime : recurrence.current(startDateTime, LocalDate.now());
+    }
+
+    @Override
+    public boolean isRepeating() {
+        return recurrence != null;
+    }
+
+    /**
+     * Marks this event as completed. For a repeating event, completes only the current occurrence.
+     */
+    @Override
+    public void markAsDone() {
+        if (recurrence == null) {
+            super.markAsDone();
+        } else {
+            recurrence.completeCurrent(startDateTime, LocalDate.now());
+        }
+    }
+
+    /**
+     * Marks this event as not completed. For a repeating event, reopens the latest completed occurrence.
+     */
+    @Override
+    public void markAsNotDone() {
+        if (recurrence == null) {
+            super.markAsNotDone();
+        } else {
+            recurrence.reopenLatest();
+        }
+    }
+
     /**
      * Parses various date/time formats into a LocalDateTime object.
      * Supported formats:
@@ -87,20 +151,30 @@ public class Event extends Task {
         }
     }
 
+    /**
+     * Writes the display form of this event, formatting the start and end straight into the output.
+     *
+     * @param out The output to write to
+     * @throws IOException If writing to the output fails
+     */
     @Override
-    public String toString() {
-        DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy h:mma");
-
-        String startStr = startDateTime.format(displayFormatter);
-        String endStr;
+    public void renderTo(Appendable out) throws IOException {
+        out.append("[E]");
+        super.renderTo(out);
+        LocalDateTime start = getCurrentStartDateTime();
+        LocalDateTime end = start.plus(Duration.between(startDateTime, endDateTime));
+        out.append(" (at: ");
+        DISPLAY_FORMAT.formatTo(start, out);
+        out.append(" to ");
 
         // Smart formatting: if same day, only show end time; if different day, show full date
-        if (startDateTime.toLocalDate().equals(endDateTime.toLocalDate())) {
-            endStr = endDateTime.format(DateTimeFormatter.ofPattern("h:mma"));
-        } else {
-            endStr = endDateTime.format(displayFormatter);
+        boolean isSameDay = start.getYear() == end.getYear()
+                && start.getDayOfYear() == end.getDayOfYear();
+        DateTimeFormatter endFormat = isSameDay ? TIME_FORMAT : DISPLAY_FORMAT;
+        endFormat.formatTo(end, out);
+        if (recurrence != null) {
+            out.append(", every ").append(recurrence.getFrequency().toString());
         }
-
-        return "[E]" + getStatusIcon() + " " + getPriorityIcon() + " " + description + " (at: " + startStr + " to " + endStr + ")";
+        out.append(')');
     }
 }
\ No newline at end of file
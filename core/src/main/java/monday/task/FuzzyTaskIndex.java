@@ -0,0 +1,169 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the tasks of a {@link TaskList} whose descriptions contain words close to a search term, so that
+ * a search still finds "groceries" when typed as "grocerys". The distinct words of all descriptions are
+ * kept in a {@link BkTree} with the tasks that use each word, so a search compares the term with a small
+ * part of the vocabulary instead of with every description.
+ *
+ * <p>The index is built the first time it is searched and from then on kept up to date as a listener.
+ * Matches are returned in list order, by sequence numbers given to tasks as they are appended. A task
+ * inserted anywhere else, such as by undoing a delete, has the tasks numbered again before the next search.
+ * Since searches run concurrently, building, searching and updating the index hold the lock of this
+ * object.</p>
+ */
+public class FuzzyTaskIndex implements TaskListListener {
+    private final TaskList taskList;
+    private final BkTree words = new BkTree();
+    private final Map<String, Set<Task>> tasksByWord = new HashMap<>();
+    private final Map<Task, Long> sequences = new IdentityHashMap<>();
+    private long nextSequence;
+    private boolean isStale = true;
+    private boolean isOrderStale;
+
+    /**
+     * Constructs the index of a task list. Register the index as a listener of the list to keep it
+     * up to date.
+     *
+     * @param taskList The list to index
+     */
+    public FuzzyTaskIndex(TaskList taskList) {
+        this.taskList = taskList;
+    }
+
+    /**
+     * Returns the number of edits a search term may be away from a word and still match it:
+     * none for terms of up to two letters, one for up to five letters and two for longer terms.
+     *
+     * @param term The search term
+     * @return The largest edit distance to accept
+     */
+    public static int maxDistance(String term) {
+        return term.length() <= 2 ? 0 : term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Finds the tasks that have, for every word of the search term, a word in their description within
+     * {@link #maxDistance(String)} edits of it, ignoring case.
+     *
+     * @param term One or more words to search for
+     * @return The matching tasks, in list order
+     */
+    public synchronized ArrayList<Task> find(String term) {
+        if (isStale) {
+            rebuild();
+        } else if (isOrderStale) {
+            renumber();
+        }
+        Set<Task> matches = null;
+        for (String termWord : split(term)) {
+            Set<Task> wordMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+            words.search(termWord, maxDistance(termWord),
+                    (word, distance) -> wordMatches.addAll(tasksByWord.get(word)));
+            if (matches == null) {
+                matches = wordMatches;
+            } else {
+                matches.retainAll(wordMatches);
+            }
+        }
+        ArrayList<Task> found = matches == null ? new ArrayList<>() : new ArrayList<>(matches);
+        found.sort((a, b) -> Long.compare(sequences.get(a), sequences.get(b)));
+        return found;
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        if (isStale) {
+            return;
+        }
+        if (taskList.getLastTask() != task) {
+            isOrderStale = true;
+        }
+        sequences.put(task, nextSequence++);
+        for (String word : split(task.getDescription())) {
+            tasksByWord.computeIfAbsent(word, newWord -> {
+                words.add(newWord);
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(task);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        if (isStale || sequences.remove(task) == null) {
+            return;
+        }
+        for (String word : split(task.getDescription())) {
+            Set<Task> tasks = tasksByWord.get(word);
+            if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+                tasksByWord.remove(word);
+                words.remove(word);
+            }
+        }
+    }
+
+    @Override
+    public void taskStatusChanged(Task task) {
+        // descriptions do not change
+    }
+
+    @Override
+    public synchronized void tasksReplaced() {
+        isStale = true;
+    }
+
+    /**
+     * Indexes every task in list order.
+     */
+    private void rebuild() {
+        words.clear();
+        tasksByWord.clear();
+        sequences.clear();
+        nextSequence = 0;
+        isStale = false;
+        for (Task task : taskList) {
+            taskAdded(task);
+        }
+        // the tasks were numbered in list order
+        isOrderStale = false;
+    }
+
+    /**
+     * Numbers the indexed tasks again in list order, keeping the words.
+     */
+    private void renumber() {
+        nextSequence = 0;
+        for (Task task : taskList) {
+            sequences.put(task, nextSequence++);
+        }
+        isOrderStale = false;
+    }
+
+    /**
+     * Splits text into lowercase words at every character that is not a letter or digit.
+     */
+    private static List<String> split(String text) {
+        List<String> result = new ArrayList<>();
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean isWordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                result.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return result;
+    }
+}
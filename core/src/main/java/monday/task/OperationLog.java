@@ -0,0 +1,187 @@
+package monday.task;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Records the inverse of every TaskList mutation so that changes can be undone and redone.
+ * Each entry only stores the affected position, a reference to the task involved and its previous state,
+ * so the log costs a constant amount of memory per operation regardless of the size of the list.
+ */
+class OperationLog {
+    /** Default number of operations kept in the undo history. */
+    static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * Kinds of mutations that can be recorded.
+     */
+    enum Kind {
+        ADD, ADD_BATCH, DELETE, STATUS
+    }
+
+    /**
+     * A single recorded mutation together with what is needed to reverse it.
+     */
+    static class Operation {
+        private final Kind kind;
+        private final int index;
+        private final Task task;
+        private final List<Task[]> batches;
+        private final int count;
+        private final boolean wasDone;
+        private final boolean isDone;
+
+        private Operation(Kind kind, int index, Task task, List<Task[]> batches, int count, boolean wasDone,
+                boolean isDone) {
+            this.kind = kind;
+            this.index = index;
+            this.task = task;
+            this.batches = batches;
+            this.count = count;
+            this.wasDone = wasDone;
+            this.isDone = isDone;
+        }
+
+        /**
+         * Creates an operation recording that a task was appended at the given 0-based index.
+         *
+         * @param index The 0-based index the task was added at
+         * @param task The task that was added
+         * @return The recorded operation
+         */
+        static Operation added(int index, Task task) {
+            return new Operation(Kind.ADD, index, task, null, 1, false, false);
+        }
+
+        /**
+         * Creates an operation recording that several tasks were appended starting at the given index.
+         * Null entries in the batches are skipped, matching {@link TaskList#addBatches(List)}.
+         *
+         * @param index The 0-based index of the first appended task
+         * @param batches The arrays of tasks passed to the batch add, in order, which the log keeps
+         * @param count The number of non-null tasks that were appended
+         * @return The recorded operation
+         */
+        static Operation addedBatch(int index, List<Task[]> batches, int count) {
+            return new Operation(Kind.ADD_BATCH, index, null, batches, count, false, false);
+        }
+
+        /**
+         * Creates an operation recording that a task was removed from the given index.
+         *
+         * @param index The 0-based index the task was removed from
+         * @param task The task that was removed
+         * @return The recorded operation
+         */
+        static Operation deleted(int index, Task task) {
+            return new Operation(Kind.DELETE, index, task, null, 1, false, false);
+        }
+
+        /**
+         * Creates an operation recording a change in completion status.
+         *
+         * @param index The 0-based index of the task
+         * @param task The task whose status changed
+         * @param wasDone The completion status before the change
+         * @param isDone The completion status after the change
+         * @return The recorded operation
+         */
+        static Operation statusChanged(int index, Task task, boolean wasDone, boolean isDone) {
+            return new Operation(Kind.STATUS, index, task, null, 1, wasDone, isDone);
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        Task getTask() {
+            return task;
+        }
+
+        List<Task[]> getBatches() {
+            return batches;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        boolean wasDone() {
+            return wasDone;
+        }
+
+        boolean isDone() {
+            return isDone;
+        }
+    }
+
+    private final ArrayDeque<Operation> undoStack = new ArrayDeque<>();
+    private final ArrayDeque<Operation> redoStack = new ArrayDeque<>();
+    private final int capacity;
+
+    /**
+     * Constructs an OperationLog that keeps at most the given number of undoable operations.
+     *
+     * @param capacity The maximum number of operations kept in the undo history
+     * @throws IllegalArgumentException If capacity is not positive
+     */
+    OperationLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a new operation. Discards the oldest entry once the capacity is reached
+     * and clears the redo history, since it no longer applies.
+     *
+     * @param operation The operation to record
+     */
+    void record(Operation operation) {
+        if (undoStack.size() == capacity) {
+            undoStack.removeLast();
+        }
+        undoStack.push(operation);
+        redoStack.clear();
+    }
+
+    /**
+     * Removes and returns the most recent undoable operation, moving it onto the redo history.
+     *
+     * @return The operation to undo, or null if there is nothing to undo
+     */
+    Operation nextUndo() {
+        Operation operation = undoStack.poll();
+        if (operation != null) {
+            redoStack.push(operation);
+        }
+        return operation;
+    }
+
+    /**
+     * Removes and returns the most recently undone operation, moving it back onto the undo history.
+     *
+     * @return The operation to redo, or null if there is nothing to redo
+     */
+    Operation nextRedo() {
+        Operation operation = redoStack.poll();
+        if (operation != null) {
+            undoStack.push(operation);
+        }
+        return operation;
+    }
+
+    /**
+     * Discards all recorded history.
+     * Used when the list is replaced wholesale and recorded positions are no longer valid.
+     */
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+}
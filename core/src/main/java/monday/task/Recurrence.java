@@ -0,0 +1,248 @@
+package monday.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+/**
+ * How a deadline or event repeats, together with the occurrences that have been completed.
+ * Occurrences are never stored: the n-th one is computed from the task's first date, so a series costs
+ * the same whether it runs for a week or for years. Only the dates of completed occurrences are kept.
+ *
+ * <p>Monthly series are counted from the first date, so a series starting on the 31st falls on the last
+ * day of shorter months and returns to the 31st afterwards.</p>
+ */
+public class Recurrence {
+    /**
+     * How often a task repeats.
+     */
+    public enum Frequency {
+        DAY, WEEK, MONTH;
+
+        /**
+         * Parses a frequency as written after {@code /every}, such as "week".
+         *
+         * @param text The frequency name
+         * @return The frequency
+         * @throws IllegalArgumentException If the text is not day, week or month
+         */
+        public static Frequency parse(String text) {
+            return valueOf(text.trim().toUpperCase());
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Frequency frequency;
+    private final NavigableSet<LocalDate> completed = new TreeSet<>();
+
+    /**
+     * Constructs a recurrence with no completed occurrences.
+     *
+     * @param frequency How often the task repeats
+     */
+    public Recurrence(Frequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Returns the dates of the completed occurrences, earliest first.
+     *
+     * @return A read-only view of the completed dates
+     */
+    public NavigableSet<LocalDate> getCompleted() {
+        return Collections.unmodifiableNavigableSet(completed);
+    }
+
+    /**
+     * Returns an occurrence of a series.
+     *
+     * @param first The first occurrence
+     * @param index The number of the occurrence, counting from 0
+     * @return The occurrence's date and time
+     */
+    public LocalDateTime occurrence(LocalDateTime first, long index) {
+        switch (frequency) {
+        case DAY:
+            return first.plusDays(index);
+        case WEEK:
+            return first.plusWeeks(index);
+        case MONTH:
+            return first.plusMonths(index);
+        default:
+            throw new IllegalStateException("Unknown frequency: " + frequency);
+        }
+    }
+
+    /**
+     * Returns the first occurrence that is not completed and not before the given time.
+     * Takes constant time apart from skipping completed occurrences.
+     *
+     * @param first The first occurrence of the series
+     * @param from The earliest time to consider
+     * @return The next pending occurrence
+     */
+    public LocalDateTime nextPending(LocalDateTime first, LocalDateTime from) {
+        long index = indexAtOrAfter(first, from);
+        LocalDateTime occurrence = occurrence(first, index);
+        while (completed.contains(occurrence.toLocalDate())) {
+            occurrence = occurrence(first, ++index);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Returns the pending occurrences in a window, generated one at a time as they are iterated.
+     *
+     * @param first The first occurrence of the series
+     * @param from The start of the window, inclusive
+     * @param to The end of the window, exclusive
+     * @return The pending occurrences, earliest first
+     */
+    public Iterable<LocalDateTime> pendingBetween(LocalDateTime first, LocalDateTime from, LocalDateTime to) {
+        return () -> new Iterator<>() {
+            private long index = indexAtOrAfter(first, from);
+            private LocalDateTime next = advance();
+
+            private LocalDateTime advance() {
+                LocalDateTime occurrence = occurrence(first, index++);
+                while (completed.contains(occurrence.toLocalDate())) {
+                    occurrence = occurrence(first, index++);
+                }
+                return occurrence.isBefore(to) ? occurrence : null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public LocalDateTime next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                LocalDateTime current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns the occurrence the user is working on: the first pending one that is not before today.
+     *
+     * @param first The first occurrence of the series
+     * @param today The current date
+     * @return The current occurrence
+     */
+    public LocalDateTime current(LocalDateTime first, LocalDate today) {
+        return nextPending(first, today.atStartOfDay());
+    }
+
+    /**
+     * Marks the current occurrence as completed.
+     *
+     * @param first The first occurrence of the series
+     * @param today The current date
+     * @return The occurrence that was completed
+     */
+    public LocalDateTime completeCurrent(LocalDateTime first, LocalDate today) {
+        LocalDateTime occurrence = current(first, today);
+        completed.add(occurrence.toLocalDate());
+        return occurrence;
+    }
+
+    /**
+     * Marks the most recently dated completed occurrence as pending again.
+     *
+     * @return False if no occurrence was completed
+     */
+    public boolean reopenLatest() {
+        return completed.pollLast() != null;
+    }
+
+    /**
+     * Returns the compact form used in the data file: the frequency, followed by the completed dates
+     * if there are any, such as {@code week;2025-03-03,2025-03-10}.
+     *
+     * @return The stored form
+     */
+    public String toStoredForm() {
+        if (completed.isEmpty()) {
+            return frequency.toString();
+        }
+        StringBuilder stored = new StringBuilder(frequency.toString()).append(';');
+        for (LocalDate date : completed) {
+            if (stored.charAt(stored.length() - 1) != ';') {
+                stored.append(',');
+            }
+            stored.append(date);
+        }
+        return stored.toString();
+    }
+
+    /**
+     * Parses the form written by {@link #toStoredForm()}.
+     *
+     * @param stored The stored form
+     * @return The recurrence
+     * @throws IllegalArgumentException If the frequency or a date is invalid
+     */
+    public static Recurrence fromStoredForm(String stored) {
+        String[] parts = stored.trim().split(";", 2);
+        Recurrence recurrence = new Recurrence(Frequency.parse(parts[0]));
+        if (parts.length == 2 && !parts[1].isBlank()) {
+            for (String date : parts[1].split(",")) {
+                try {
+                    recurrence.completed.add(LocalDate.parse(date.trim()));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("Invalid completed date: " + date, e);
+                }
+            }
+        }
+        return recurrence;
+    }
+
+    /**
+     * Returns the number of the first occurrence at or after the given time, estimated from the
+     * distance to the first occurrence and then corrected by at most a step or two.
+     */
+    private long indexAtOrAfter(LocalDateTime first, LocalDateTime from) {
+        if (!from.isAfter(first)) {
+            return 0;
+        }
+        long index;
+        switch (frequency) {
+        case DAY:
+            index = ChronoUnit.DAYS.between(first, from);
+            break;
+        case WEEK:
+            index = ChronoUnit.WEEKS.between(first, from);
+            break;
+        default:
+            index = ChronoUnit.MONTHS.between(first, from);
+            break;
+        }
+        while (index > 0 && !occurrence(first, index - 1).isBefore(from)) {
+            index--;
+        }
+        while (occurrence(first, index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,340 @@
+package monday.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the tasks of a {@link TaskList} sorted by due date, priority, description and type.
+ * A view is built the first time it is asked for and from then on kept up to date as a listener:
+ * adding, removing, marking or changing the priority of a task moves only that task, in logarithmic time.
+ *
+ * <p>The sort keys of a task are computed once, when the task is first seen, so comparing two tasks
+ * only compares numbers or already lowercased descriptions. Tasks with equal keys stay in list order:
+ * each task gets a sequence number above all others as it is appended, and a task inserted anywhere else,
+ * such as by undoing a delete or by another program's edit, has the views built again the next time they
+ * are used. The due date of a repeating task is its current occurrence, which is worked out again whenever
+ * the task is marked or unmarked, and for every repeating task when the date changes.</p>
+ *
+ * <p>The views also answer range lookups for {@link TaskFilter}, so that a query on the due date or type
+ * only checks the tasks in range. Since queries run concurrently, every method that reads or updates the
+ * views holds the lock of this object.</p>
+ */
+public class SortedTaskViews implements TaskListListener {
+    /**
+     * The orders the tasks can be viewed in.
+     */
+    public enum SortKey {
+        DUE, PRIORITY, DESCRIPTION, TYPE;
+
+        /**
+         * Parses a sort key as written after {@code /by}, such as "due".
+         *
+         * @param text The sort key name
+         * @return The sort key
+         * @throws IllegalArgumentException If the text is not a sort key
+         */
+        public static SortKey parse(String text) {
+            return valueOf(text.trim().toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * A task together with its cached sort keys.
+     */
+    private static final class Entry {
+        private final Task task;
+        private final long sequence;
+        private final long dueMinute;
+        private final int priorityLevel;
+        private final String descriptionKey;
+        private final int typeRank;
+
+        private Entry(Task task, long sequence) {
+            this.task = task;
+            this.sequence = sequence;
+            this.dueMinute = dueMinute(task);
+            this.priorityLevel = task.getPriority().getLevel();
+            this.descriptionKey = task.getDescription().toLowerCase(Locale.ROOT);
+            this.typeRank = task instanceof Deadline ? 1 : task instanceof Event ? 2 : 0;
+        }
+
+        /**
+         * Constructs a probe that sorts next to the entries with the given keys, to bound a range lookup.
+         */
+        private Entry(long dueMinute, int typeRank, long sequence) {
+            this.task = null;
+            this.sequence = sequence;
+            this.dueMinute = dueMinute;
+            this.priorityLevel = 0;
+            this.descriptionKey = "";
+            this.typeRank = typeRank;
+        }
+
+        /**
+         * Returns the minutes since the epoch of a task's due date or start, or the largest value for a
+         * task without one so that it sorts last.
+         */
+        private static long dueMinute(Task task) {
+            LocalDateTime due;
+            if (task instanceof Deadline) {
+                due = ((Deadline) task).getCurrentDueDateTime();
+            } else if (task instanceof Event) {
+                due = ((Event) task).getCurrentStartDateTime();
+            } else {
+                return Long.MAX_VALUE;
+            }
+            return minuteOf(due);
+        }
+
+        private static long minuteOf(LocalDateTime dateTime) {
+            return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+        }
+    }
+
+    private static final Map<SortKey, Comparator<Entry>> COMPARATORS = new EnumMap<>(Map.of(
+            SortKey.DUE, (a, b) -> a.dueMinute != b.dueMinute
+                    ? Long.compare(a.dueMinute, b.dueMinute)
+                    : Long.compare(a.sequence, b.sequence),
+            SortKey.PRIORITY, (a, b) -> a.priorityLevel != b.priorityLevel
+                    ? Integer.compare(a.priorityLevel, b.priorityLevel)
+                    : Long.compare(a.sequence, b.sequence),
+            SortKey.DESCRIPTION, (a, b) -> {
+                int order = a.descriptionKey.compareTo(b.descriptionKey);
+                return order != 0 ? order : Long.compare(a.sequence, b.sequence);
+            },
+            SortKey.TYPE, (a, b) -> a.typeRank != b.typeRank
+                    ? Integer.compare(a.typeRank, b.typeRank)
+                    : Long.compare(a.sequence, b.sequence)));
+
+    private final TaskList taskList;
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+    private final Map<SortKey, TreeSet<Entry>> views = new EnumMap<>(SortKey.class);
+    private final Set<Task> repeatingTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long nextSequence;
+    private long keyedDay = Long.MIN_VALUE;
+    private boolean isStale = true;
+
+    /**
+     * Constructs the views of a task list. Register the views as a listener of the list to keep them
+     * up to date.
+     *
+     * @param taskList The list to sort
+     */
+    public SortedTaskViews(TaskList taskList) {
+        this.taskList = taskList;
+    }
+
+    /**
+     * Returns the tasks in the given order. The view is built on first use and afterwards only updated.
+     *
+     * @param key The order to view the tasks in
+     * @return A read-only view of the tasks that follows later changes to the list
+     */
+    public synchronized Collection<Task> view(SortKey key) {
+        TreeSet<Entry> sorted = currentView(key);
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Task> iterator() {
+                Iterator<Entry> iterator = sorted.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Task next() {
+                        return iterator.next().task;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return sorted.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the tasks that may be due within a window: those whose due date or start falls in the same
+     * minutes, and every repeating task, since a later occurrence of one may fall within it.
+     *
+     * @param from The start of the window, or null if it is open
+     * @param to The end of the window, or null if it is open
+     * @return A copy of the tasks, in list order
+     */
+    synchronized List<Task> dueWithin(LocalDateTime from, LocalDateTime to) {
+        long fromMinute = from == null ? Long.MIN_VALUE : Entry.minuteOf(from);
+        // todos sort last with the largest minute and are never due
+        long toMinute = to == null ? Long.MAX_VALUE - 1 : Entry.minuteOf(to);
+        TreeSet<Entry> view = currentView(SortKey.DUE);
+        List<Entry> found = new ArrayList<>();
+        if (fromMinute <= toMinute) {
+            found.addAll(view.subSet(new Entry(fromMinute, 0, Long.MIN_VALUE), true,
+                    new Entry(toMinute, 0, Long.MAX_VALUE), true));
+        }
+        for (Task task : repeatingTasks) {
+            Entry entry = entries.get(task);
+            if (entry.dueMinute < fromMinute || entry.dueMinute > toMinute) {
+                found.add(entry);
+            }
+        }
+        return inListOrder(found);
+    }
+
+    /**
+     * Returns the tasks of the given type.
+     *
+     * @param type Todo, Deadline or Event
+     * @return A copy of the tasks, in list order, or null for any other class
+     */
+    synchronized List<Task> ofType(Class<? extends Task> type) {
+        int typeRank = type == Todo.class ? 0 : type == Deadline.class ? 1 : type == Event.class ? 2 : -1;
+        if (typeRank < 0) {
+            return null;
+        }
+        TreeSet<Entry> view = currentView(SortKey.TYPE);
+        return inListOrder(new ArrayList<>(view.subSet(new Entry(0, typeRank, Long.MIN_VALUE), true,
+                new Entry(0, typeRank, Long.MAX_VALUE), true)));
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        if (isStale) {
+            return;
+        }
+        if (taskList.getLastTask() != task) {
+            // inserted before other tasks, so no sequence number fits; number them all again when next used
+            tasksReplaced();
+            return;
+        }
+        Entry entry = new Entry(task, nextSequence++);
+        entries.put(task, entry);
+        if (task.isRepeating()) {
+            repeatingTasks.add(task);
+        }
+        for (TreeSet<Entry> view : views.values()) {
+            view.add(entry);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        if (isStale) {
+            return;
+        }
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+        repeatingTasks.remove(task);
+        for (TreeSet<Entry> view : views.values()) {
+            view.remove(entry);
+        }
+    }
+
+    @Override
+    public synchronized void taskStatusChanged(Task task) {
+        if (!isStale) {
+            rekey(task);
+        }
+    }
+
+    @Override
+    public synchronized void tasksReplaced() {
+        isStale = true;
+        entries.clear();
+        views.clear();
+        repeatingTasks.clear();
+    }
+
+    /**
+     * Returns the view in the given order, bringing the entries up to date and building the view first
+     * if needed.
+     */
+    private TreeSet<Entry> currentView(SortKey key) {
+        if (isStale) {
+            rebuildEntries();
+        }
+        long today = LocalDate.now().toEpochDay();
+        if (today != keyedDay) {
+            // repeating tasks have moved on to the occurrence that is current today
+            keyedDay = today;
+            for (Task task : repeatingTasks) {
+                rekey(task);
+            }
+        }
+        TreeSet<Entry> view = views.get(key);
+        if (view == null) {
+            view = new TreeSet<>(COMPARATORS.get(key));
+            view.addAll(entries.values());
+            views.put(key, view);
+        }
+        return view;
+    }
+
+    private static List<Task> inListOrder(List<Entry> found) {
+        found.sort((a, b) -> Long.compare(a.sequence, b.sequence));
+        List<Task> tasks = new ArrayList<>(found.size());
+        for (Entry entry : found) {
+            tasks.add(entry.task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Moves a task whose due date or priority may have changed, such as a repeating task that moved on to
+     * another occurrence. It keeps its place among tasks with equal keys.
+     */
+    private void rekey(Task task) {
+        Entry old = entries.get(task);
+        if (old == null || (Entry.dueMinute(task) == old.dueMinute
+                && task.getPriority().getLevel() == old.priorityLevel)) {
+            return;
+        }
+        Entry updated = new Entry(task, old.sequence);
+        entries.put(task, updated);
+        for (TreeSet<Entry> view : views.values()) {
+            view.remove(old);
+            view.add(updated);
+        }
+    }
+
+    /**
+     * Computes the keys of every task in list order, so that tasks with equal keys keep that order.
+     */
+    private void rebuildEntries() {
+        entries.clear();
+        views.clear();
+        repeatingTasks.clear();
+        nextSequence = 0;
+        keyedDay = LocalDate.now().toEpochDay();
+        for (Task task : taskList) {
+            entries.put(task, new Entry(task, nextSequence++));
+            if (task.isRepeating()) {
+                repeatingTasks.add(task);
+            }
+        }
+        isStale = false;
+    }
+}
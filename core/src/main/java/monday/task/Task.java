@@ -1,5 +1,8 @@
 package monday.task;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Represents a generic task with a description and completion status.
  * This is the base class for all task types in the Monday task manager.
@@ -88,6 +91,16 @@ public class Task {
         return isDone;
     }
 
+    /**
+     * Checks if this task repeats. Marking a repeating task as done completes only its current occurrence,
+     * so the task itself stays not done.
+     *
+     * @return true if the task repeats, false otherwise
+     */
+    public boolean isRepeating() {
+        return false;
+    }
+
     /**
      * Marks this task as completed.
      */
@@ -112,7 +125,8 @@ public class Task {
     }
 
     /**
-     * Sets the priority of this task.
+     * Sets the priority of this task. For a task in a {@link TaskList}, change it through the list instead
+     * so that the list's views and counts follow.
      *
      * @param priority The new priority level for the task
      */
@@ -150,14 +164,31 @@ public class Task {
     }
 
     /**
-     * Returns a string representation of this task.
+     * Writes the display form of this task to the given output without building intermediate strings.
      * The format is "[status icon] [priority icon] [description]".
      * Subclasses can override this method to provide specialized formatting.
      *
+     * @param out The output to write to
+     * @throws IOException If writing to the output fails
+     */
+    public void renderTo(Appendable out) throws IOException {
+        out.append(getStatusIcon()).append(' ').append(getPriorityIcon()).append(' ').append(description);
+    }
+
+    /**
+     * Returns a string representation of this task, as written by {@link #renderTo(Appendable)}.
+     *
      * @return A string representation of this task
      */
     @Override
     public String toString() {
-        return getStatusIcon() + " " + getPriorityIcon() + " " + description;
+        StringBuilder sb = new StringBuilder(description.length() + 48);
+        try {
+            renderTo(sb);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
     }
 }
@@ -0,0 +1,466 @@
+package monday.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A compiled predicate over tasks, built once from a query and then evaluated against every task.
+ * Each filter reports an estimated evaluation cost so that conjunctions and disjunctions can
+ * check cheap conditions such as status or priority before expensive text matching.
+ */
+public abstract class TaskFilter {
+    /** Cost of comparing a single field that is already stored on the task. */
+    static final int COST_FIELD = 1;
+    /** Cost of comparing a date. */
+    static final int COST_DATE = 2;
+    /** Cost of a case-insensitive substring search over the description. */
+    static final int COST_TEXT = 10;
+
+    /**
+     * Comparison operators supported by ordered fields such as priority and due date.
+     */
+    public enum Comparison {
+        EQUAL("="), NOT_EQUAL("!="), LESS("<"), LESS_OR_EQUAL("<="), GREATER(">"), GREATER_OR_EQUAL(">=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Checks whether the result of a comparison satisfies this operator.
+         *
+         * @param compared A negative, zero or positive value as returned by compareTo
+         * @return True if the comparison holds
+         */
+        boolean holds(int compared) {
+            switch (this) {
+            case EQUAL:
+                return compared == 0;
+            case NOT_EQUAL:
+                return compared != 0;
+            case LESS:
+                return compared < 0;
+            case LESS_OR_EQUAL:
+                return compared <= 0;
+            case GREATER:
+                return compared > 0;
+            case GREATER_OR_EQUAL:
+                return compared >= 0;
+            default:
+                throw new IllegalStateException("Unknown comparison: " + this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    /**
+     * Checks whether a task satisfies this filter.
+     *
+     * @param task The task to check
+     * @return True if the task matches
+     */
+    public abstract boolean matches(Task task);
+
+    /**
+     * Returns the estimated cost of evaluating this filter against one task.
+     *
+     * @return The relative evaluation cost
+     */
+    public abstract int cost();
+
+    /**
+     * Returns the only tasks that can match this filter, looked up in the sorted views of the list so
+     * that the other tasks need not be checked. Filters that no view can answer return null.
+     *
+     * @param views The sorted views of the list being filtered
+     * @return The candidates in list order, or null if every task must be checked
+     */
+    List<Task> candidates(SortedTaskViews views) {
+        return null;
+    }
+
+    /**
+     * Creates a filter matching tasks of the given class, such as Deadline.
+     *
+     * @param type The task class to match
+     * @return The filter
+     */
+    public static TaskFilter ofType(Class<? extends Task> type) {
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                return type.isInstance(task);
+            }
+
+            @Override
+            public int cost() {
+                return COST_FIELD;
+            }
+
+            @Override
+            List<Task> candidates(SortedTaskViews views) {
+                return views.ofType(type);
+            }
+        };
+    }
+
+    /**
+     * Creates a filter matching tasks with the given completion status.
+     *
+     * @param isDone The completion status to match
+     * @return The filter
+     */
+    public static TaskFilter ofDone(boolean isDone) {
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                return task.isDone() == isDone;
+            }
+
+            @Override
+            public int cost() {
+                return COST_FIELD;
+            }
+        };
+    }
+
+    /**
+     * Creates a filter comparing a task's priority with the given one.
+     * Priorities are ordered by importance, so HIGH is greater than MEDIUM.
+     *
+     * @param comparison The comparison operator
+     * @param priority The priority to compare with
+     * @return The filter
+     */
+    public static TaskFilter ofPriority(Comparison comparison, Task.Priority priority) {
+        int level = priority.getLevel();
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                return comparison.holds(Integer.compare(level, task.getPriority().getLevel()));
+            }
+
+            @Override
+            public int cost() {
+                return COST_FIELD;
+            }
+        };
+    }
+
+    /**
+     * Creates a filter comparing a task's due date with the given date.
+     * Deadlines are compared by due date and events by start date; todos never match.
+     * A repeating task matches if any of its pending occurrences does, except for {@code !=},
+     * which compares its current occurrence.
+     *
+     * @param comparison The comparison operator
+     * @param date The date to compare with
+     * @return The filter
+     */
+    public static TaskFilter ofDueDate(Comparison comparison, LocalDate date) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime nextDayStart = date.plusDays(1).atStartOfDay();
+        switch (comparison) {
+        case EQUAL:
+            return new DueWindow(dayStart, nextDayStart);
+        case LESS:
+            return new DueWindow(null, dayStart);
+        case LESS_OR_EQUAL:
+            return new DueWindow(null, nextDayStart);
+        case GREATER:
+            return new DueWindow(nextDayStart, null);
+        case GREATER_OR_EQUAL:
+            return new DueWindow(dayStart, null);
+        default:
+            break;
+        }
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                LocalDateTime due = dueDateTime(task);
+                return due != null && comparison.holds(due.toLocalDate().compareTo(date));
+            }
+
+            @Override
+            public int cost() {
+                return COST_DATE;
+            }
+        };
+    }
+
+    /**
+     * Creates a filter comparing a task's due date and time with the given one.
+     * Deadlines are compared by due date and events by start date; todos never match.
+     * Repeating tasks are compared as in {@link #ofDueDate(Comparison, LocalDate)}.
+     *
+     * @param comparison The comparison operator
+     * @param dateTime The date and time to compare with
+     * @return The filter
+     */
+    public static TaskFilter ofDueDateTime(Comparison comparison, LocalDateTime dateTime) {
+        LocalDateTime justAfter = dateTime.plusNanos(1);
+        switch (comparison) {
+        case EQUAL:
+            return new DueWindow(dateTime, justAfter);
+        case LESS:
+            return new DueWindow(null, dateTime);
+        case LESS_OR_EQUAL:
+            return new DueWindow(null, justAfter);
+        case GREATER:
+            return new DueWindow(justAfter, null);
+        case GREATER_OR_EQUAL:
+            return new DueWindow(dateTime, null);
+        default:
+            break;
+        }
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                LocalDateTime due = dueDateTime(task);
+                return due != null && comparison.holds(due.compareTo(dateTime));
+            }
+
+            @Override
+            public int cost() {
+                return COST_DATE;
+            }
+        };
+    }
+
+    /**
+     * Creates a filter matching tasks whose description contains the given text, ignoring case.
+     *
+     * @param text The text to search for
+     * @return The filter
+     */
+    public static TaskFilter ofText(String text) {
+        String lowerCaseText = text.toLowerCase();
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                return task.getDescription().toLowerCase().contains(lowerCaseText);
+            }
+
+            @Override
+            public int cost() {
+                return COST_TEXT;
+            }
+        };
+    }
+
+    /**
+     * Creates a filter matching tasks that do not match the given filter.
+     *
+     * @param filter The filter to negate
+     * @return The filter
+     */
+    public static TaskFilter not(TaskFilter filter) {
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                return !filter.matches(task);
+            }
+
+            @Override
+            public int cost() {
+                return filter.cost();
+            }
+        };
+    }
+
+    /**
+     * Creates a filter matching tasks that match all the given filters.
+     * The filters are evaluated cheapest first and evaluation stops at the first mismatch.
+     * Only the smallest set of candidates that any of the filters can look up needs to be checked.
+     *
+     * @param filters The filters to combine
+     * @return The filter
+     */
+    public static TaskFilter allOf(List<TaskFilter> filters) {
+        filters = mergeDueWindows(filters);
+        if (filters.size() == 1) {
+            return filters.get(0);
+        }
+        TaskFilter[] ordered = orderByCost(filters);
+        int cost = totalCost(ordered);
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                for (TaskFilter filter : ordered) {
+                    if (!filter.matches(task)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public int cost() {
+                return cost;
+            }
+
+            @Override
+            List<Task> candidates(SortedTaskViews views) {
+                List<Task> fewest = null;
+                for (TaskFilter filter : ordered) {
+                    List<Task> candidates = filter.candidates(views);
+                    if (candidates != null && (fewest == null || candidates.size() < fewest.size())) {
+                        fewest = candidates;
+                    }
+                }
+                return fewest;
+            }
+        };
+    }
+
+    /**
+     * Creates a filter matching tasks that match any of the given filters.
+     * The filters are evaluated cheapest first and evaluation stops at the first match.
+     *
+     * @param filters The filters to combine
+     * @return The filter
+     */
+    public static TaskFilter anyOf(List<TaskFilter> filters) {
+        if (filters.size() == 1) {
+            return filters.get(0);
+        }
+        TaskFilter[] ordered = orderByCost(filters);
+        int cost = totalCost(ordered);
+        return new TaskFilter() {
+            @Override
+            public boolean matches(Task task) {
+                for (TaskFilter filter : ordered) {
+                    if (filter.matches(task)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public int cost() {
+                return cost;
+            }
+        };
+    }
+
+    /**
+     * Replaces all due date windows in a conjunction with their intersection, so that a repeating task
+     * must have one occurrence inside the whole window rather than one occurrence per bound.
+     *
+     * @param filters The filters of a conjunction
+     * @return The filters with at most one due date window
+     */
+    private static List<TaskFilter> mergeDueWindows(List<TaskFilter> filters) {
+        List<TaskFilter> merged = new ArrayList<>(filters.size());
+        DueWindow window = null;
+        for (TaskFilter filter : filters) {
+            if (filter instanceof DueWindow) {
+                window = window == null ? (DueWindow) filter : window.intersect((DueWindow) filter);
+            } else {
+                merged.add(filter);
+            }
+        }
+        if (window != null) {
+            merged.add(window);
+        }
+        return merged;
+    }
+
+    private static TaskFilter[] orderByCost(List<TaskFilter> filters) {
+        List<TaskFilter> ordered = new ArrayList<>(filters);
+        ordered.sort(Comparator.comparingInt(TaskFilter::cost));
+        return ordered.toArray(new TaskFilter[0]);
+    }
+
+    private static int totalCost(TaskFilter[] filters) {
+        int cost = 0;
+        for (TaskFilter filter : filters) {
+            cost += filter.cost();
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the date a task is due: the due date of a deadline or the start of an event.
+     *
+     * @param task The task
+     * @return The due date and time, or null if the task has none
+     */
+    private static LocalDateTime dueDateTime(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getCurrentDueDateTime();
+        } else if (task instanceof Event) {
+            return ((Event) task).getCurrentStartDateTime();
+        }
+        return null;
+    }
+
+    /**
+     * Matches tasks due within a window. A repeating task matches if one of its pending occurrences is
+     * in the window; the occurrences are generated from the start of the window, not stored.
+     */
+    private static class DueWindow extends TaskFilter {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        /**
+         * Constructs a window.
+         *
+         * @param from The start of the window, inclusive, or null if it is open
+         * @param to The end of the window, exclusive, or null if it is open
+         */
+        DueWindow(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Returns the window that both this window and the other one cover.
+         *
+         * @param other The other window
+         * @return The intersection, which may be empty
+         */
+        DueWindow intersect(DueWindow other) {
+            LocalDateTime start = from == null || (other.from != null && other.from.isAfter(from)) ? other.from : from;
+            LocalDateTime end = to == null || (other.to != null && other.to.isBefore(to)) ? other.to : to;
+            return new DueWindow(start, end);
+        }
+
+        @Override
+        public boolean matches(Task task) {
+            LocalDateTime first;
+            Recurrence recurrence;
+            if (task instanceof Deadline) {
+                first = ((Deadline) task).getDueDateTime();
+                recurrence = ((Deadline) task).getRecurrence();
+            } else if (task instanceof Event) {
+                first = ((Event) task).getStartDateTime();
+                recurrence = ((Event) task).getRecurrence();
+            } else {
+                return false;
+            }
+            LocalDateTime due = recurrence == null ? first : recurrence.nextPending(first, from == null ? first : from);
+            return (from == null || !due.isBefore(from)) && (to == null || due.isBefore(to));
+        }
+
+        @Override
+        public int cost() {
+            return COST_DATE;
+        }
+
+        @Override
+        List<Task> candidates(SortedTaskViews views) {
+            return views.dueWithin(from, to);
+        }
+    }
+}
@@ -0,0 +1,792 @@
+package monday.task;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import monday.exception.InvalidTaskNumberException;
+import monday.metrics.LatencyHistogram;
+import monday.metrics.Metrics;
+import monday.storage.Storage;
+
+/**
+ * Manages a collection of tasks with operations to add, delete, and manipulate tasks.
+ * Follows Single Responsibility Principle - only handles task list operations.
+ * Automatically saves changes to storage when tasks are modified.
+ */
+public class TaskList implements Iterable<Task> {
+    private static final LatencyHistogram FIND_TIME = Metrics.histogram("find tasks");
+    private static final LatencyHistogram FUZZY_FIND_TIME = Metrics.histogram("fuzzy find tasks");
+    private static final LatencyHistogram SORT_TIME = Metrics.histogram("sort tasks");
+
+    private ArrayList<Task> tasks;
+    private Storage storage;
+    private int autoSaveDeferrals;
+    private boolean hasUnsavedChanges;
+    private final OperationLog operationLog = new OperationLog(OperationLog.DEFAULT_CAPACITY);
+    private final List<TaskListListener> listeners = new CopyOnWriteArrayList<>();
+    private final SortedTaskViews sortedViews = register(new SortedTaskViews(this));
+    private final FuzzyTaskIndex fuzzyIndex = register(new FuzzyTaskIndex(this));
+    private TaskSummary summary;
+
+    /**
+     * Constructs an empty TaskList.
+     */
+    public TaskList() {
+        this.tasks = new ArrayList<>();
+        this.storage = null;
+    }
+
+    /**
+     * Constructs a TaskList with an existing list of tasks.
+     *
+     * @param tasks The initial list of tasks
+     */
+    public TaskList(ArrayList<Task> tasks) {
+        this.tasks = new ArrayList<>(tasks);
+        this.storage = null;
+    }
+
+    /**
+     * Constructs an empty TaskList with storage for auto-saving.
+     *
+     * @param storage The storage instance for auto-saving
+     */
+    public TaskList(Storage storage) {
+        this.tasks = new ArrayList<>();
+        this.storage = storage;
+    }
+
+    /**
+     * Constructs a TaskList with an existing list of tasks and storage for auto-saving.
+     *
+     * @param tasks The initial list of tasks
+     * @param storage The storage instance for auto-saving
+     */
+    public TaskList(ArrayList<Task> tasks, Storage storage) {
+        this.tasks = new ArrayList<>(tasks);
+        this.storage = storage;
+    }
+
+    /**
+     * Adds a task to the task list and automatically saves if storage is available.
+     *
+     * @param task The task to add
+     * @throws IllegalArgumentException If task is null
+     */
+    public void addTask(Task task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        int oldSize = tasks.size();
+        tasks.add(task);
+        assert tasks.size() == oldSize + 1 : "Task should be added to list";
+        operationLog.record(OperationLog.Operation.added(oldSize, task));
+        notifyAdded(task);
+        autoSave();
+    }
+
+    /**
+     * Adds multiple tasks to the task list and automatically saves if storage is available.
+     *
+     * @param tasks The tasks to add
+     */
+    public void addTasks(Task... tasks) {
+        addBatches(Collections.singletonList(tasks.clone()));
+    }
+
+    /**
+     * Adds the tasks of several arrays in order, skipping null entries, as a single change that one undo
+     * reverts, and automatically saves if storage is available. The arrays are kept for redo, so they must
+     * not be changed afterwards.
+     *
+     * @param batches The arrays of tasks to add
+     */
+    public void addBatches(List<Task[]> batches) {
+        int oldSize = this.tasks.size();
+        int validTasks = 0;
+        for (Task[] batch : batches) {
+            for (Task task : batch) {
+                if (task != null) {
+                    this.tasks.add(task);
+                    notifyAdded(task);
+                    validTasks++;
+                }
+            }
+        }
+        assert this.tasks.size() == oldSize + validTasks : "All valid tasks should be added";
+        if (validTasks > 0) {
+            operationLog.record(OperationLog.Operation.addedBatch(oldSize, batches, validTasks));
+        }
+        autoSave();
+    }
+
+    /**
+     * Removes a task from the task list at the specified index and automatically saves.
+     *
+     * @param index The 1-based index of the task to remove
+     * @return The task that was removed
+     * @throws InvalidTaskNumberException If the index is out of bounds
+     */
+    public Task deleteTask(int index) throws InvalidTaskNumberException {
+        assert index > 0 : "Task index must be positive: " + index;
+        assert index <= tasks.size() : "Task index out of range: " + index + ", size: " + tasks.size();
+        if (index < 1 || index > tasks.size()) {
+            throw new InvalidTaskNumberException();
+        }
+        int oldSize = tasks.size();
+        Task removed = tasks.remove(index - 1);
+        assert tasks.size() == oldSize - 1 : "Task should be removed from list";
+        assert removed != null : "Removed task should not be null";
+        operationLog.record(OperationLog.Operation.deleted(index - 1, removed));
+        notifyRemoved(removed);
+        autoSave();
+        return removed;
+    }
+
+    /**
+     * Marks a task as done at the specified index and automatically saves.
+     *
+     * @param index The 1-based index of the task to mark as done
+     * @return The task that was marked as done
+     * @throws InvalidTaskNumberException If the index is out of bounds
+     */
+    public Task markTaskAsDone(int index) throws InvalidTaskNumberException {
+        assert index > 0 : "Task index must be positive: " + index;
+        assert index <= tasks.size() : "Task index out of range: " + index + ", size: " + tasks.size();
+        if (index < 1 || index > tasks.size()) {
+            throw new InvalidTaskNumberException();
+        }
+        Task task = tasks.get(index - 1);
+        boolean wasDone = task.isDone();
+        task.markAsDone();
+        assert task.isDone() || task.isRepeating() : "Task should be marked as done";
+        operationLog.record(OperationLog.Operation.statusChanged(index - 1, task, wasDone, true));
+        notifyStatusChanged(task);
+        autoSave();
+        return task;
+    }
+
+    /**
+     * Marks a task as not done at the specified index and automatically saves.
+     *
+     * @param index The 1-based index of the task to mark as not done
+     * @return The task that was marked as not done
+     * @throws InvalidTaskNumberException If the index is out of bounds
+     */
+    public Task markTaskAsNotDone(int index) throws InvalidTaskNumberException {
+        assert index > 0 : "Task index must be positive: " + index;
+        assert index <= tasks.size() : "Task index out of range: " + index + ", size: " + tasks.size();
+        if (index < 1 || index > tasks.size()) {
+            throw new InvalidTaskNumberException();
+        }
+        Task task = tasks.get(index - 1);
+        boolean wasDone = task.isDone();
+        task.markAsNotDone();
+        assert !task.isDone() : "Task should be marked as not done";
+        operationLog.record(OperationLog.Operation.statusChanged(index - 1, task, wasDone, false));
+        notifyStatusChanged(task);
+        autoSave();
+        return task;
+    }
+
+    /**
+     * Changes the priority of a task at the specified index, tells the listeners so that sorted views and
+     * counts follow, and automatically saves. The change is not recorded for undo, so this stays
+     * package-private until a command changes priorities.
+     *
+     * @param index The 1-based index of the task
+     * @param priority The new priority
+     * @return The changed task
+     * @throws InvalidTaskNumberException If the index is out of bounds
+     */
+    Task setTaskPriority(int index, Task.Priority priority) throws InvalidTaskNumberException {
+        assert priority != null : "Priority cannot be null";
+        if (index < 1 || index > tasks.size()) {
+            throw new InvalidTaskNumberException();
+        }
+        Task task = tasks.get(index - 1);
+        if (task.getPriority() != priority) {
+            task.setPriority(priority);
+            notifyStatusChanged(task);
+            autoSave();
+        }
+        return task;
+    }
+
+    /**
+     * Gets a task at the specified index.
+     *
+     * @param index The 1-based index of the task to retrieve
+     * @return The task at the specified index
+     * @throws InvalidTaskNumberException If the index is out of bounds
+     */
+    public Task getTask(int index) throws InvalidTaskNumberException {
+        assert !tasks.isEmpty() : "Task list should not be empty when getting task";
+        assert index > 0 : "Task index must be positive: " + index;
+        assert index <= tasks.size() : "Task index out of range: " + index + ", size: " + tasks.size();
+        if (index < 1 || index > tasks.size()) {
+            throw new InvalidTaskNumberException();
+        }
+        return tasks.get(index - 1);
+    }
+
+    /**
+     * Gets the most recently added task.
+     *
+     * @return The last task in the list
+     * @throws IllegalStateException If the task list is empty
+     */
+    public Task getLastTask() {
+        assert !tasks.isEmpty() : "Task list should not be empty when getting last task";
+        if (tasks.isEmpty()) {
+            throw new IllegalStateException("Task list is empty");
+        }
+        return tasks.get(tasks.size() - 1);
+    }
+
+    /**
+     * Gets the number of tasks in the task list.
+     *
+     * @return The size of the task list
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Checks if the task list is empty.
+     *
+     * @return True if the task list contains no tasks, false otherwise
+     */
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+
+    /**
+     * Gets all tasks as an ArrayList for operations like saving to file.
+     * Returns a copy to maintain encapsulation.
+     *
+     * @return A copy of the internal task list
+     */
+    public ArrayList<Task> getAllTasks() {
+        return new ArrayList<>(tasks);
+    }
+
+    /**
+     * Replaces the current task list with a new list of tasks.
+     * Used when loading tasks from storage.
+     *
+     * @param newTasks The new list of tasks to set
+     * @throws IllegalArgumentException If newTasks is null
+     */
+    public void setTasks(ArrayList<Task> newTasks) {
+        assert newTasks != null : "New task list cannot be null";
+        if (newTasks == null) {
+            throw new IllegalArgumentException("Task list cannot be null");
+        }
+        this.tasks = new ArrayList<>(newTasks);
+        operationLog.clear();
+        for (TaskListListener listener : listeners) {
+            listener.tasksReplaced();
+        }
+    }
+
+    /**
+     * Registers a listener to be told about every later change to the list.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Registers one of the list's own indexes as a listener while the list is constructed.
+     */
+    private <T extends TaskListListener> T register(T listener) {
+        listeners.add(listener);
+        return listener;
+    }
+
+    /**
+     * Stops telling a listener about changes to the list.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns a read-only iterator over the tasks in list order without copying the list.
+     *
+     * @return An iterator over all tasks
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return Collections.unmodifiableList(tasks).iterator();
+    }
+
+    /**
+     * Returns a read-only view of the tasks between the given 0-based indices without copying them.
+     *
+     * @param fromIndex The index of the first task, inclusive
+     * @param toIndex The index after the last task, exclusive
+     * @return A view of the requested range
+     * @throws IndexOutOfBoundsException If the range is outside the list
+     */
+    public List<Task> slice(int fromIndex, int toIndex) {
+        return Collections.unmodifiableList(tasks.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Postpones automatic saving until {@link #resumeAutoSave()} is called,
+     * so that a series of changes such as a bulk import is written to storage only once.
+     * Calls may be nested.
+     */
+    public void deferAutoSave() {
+        autoSaveDeferrals++;
+    }
+
+    /**
+     * Ends a period started by {@link #deferAutoSave()} and saves once if anything changed in the meantime.
+     */
+    public void resumeAutoSave() {
+        assert autoSaveDeferrals > 0 : "resumeAutoSave called without matching deferAutoSave";
+        autoSaveDeferrals--;
+        if (autoSaveDeferrals == 0 && hasUnsavedChanges) {
+            autoSave();
+        }
+    }
+
+    /**
+     * Writes any changes that have not been saved yet, even while automatic saving is deferred.
+     * Used before a task list is dropped from memory.
+     */
+    public void flush() {
+        if (hasUnsavedChanges && storage != null) {
+            hasUnsavedChanges = false;
+            applyExternalChange(storage.save(tasks));
+        }
+    }
+
+    /**
+     * Applies changes that another program made to the data file since it was last read or written.
+     * Only the tasks on the changed lines are replaced. The undo history is cleared, since its
+     * positions may no longer match the list.
+     *
+     * @return True if the list changed
+     */
+    public boolean reloadExternalChanges() {
+        if (storage == null || autoSaveDeferrals > 0) {
+            return false;
+        }
+        return applyExternalChange(storage.readExternalChanges());
+    }
+
+    /**
+     * Replaces the tasks covered by a change to the data file, without saving.
+     *
+     * @param change The change, or null if there is none
+     * @return True if a change was applied
+     */
+    private boolean applyExternalChange(Storage.ExternalChange change) {
+        if (change == null) {
+            return false;
+        }
+        List<Task> region = tasks.subList(change.getIndex(), change.getIndex() + change.getRemovedCount());
+        region.forEach(this::notifyRemoved);
+        region.clear();
+        int index = change.getIndex();
+        for (Task task : change.getAddedTasks()) {
+            // one at a time, so that listeners see each task at its place in the list
+            tasks.add(index++, task);
+            notifyAdded(task);
+        }
+        operationLog.clear();
+        return true;
+    }
+
+    /**
+     * Finds tasks in the list whose descriptions contain the specified keyword.
+     * The search is case-insensitive.
+     *
+     * @param keyword The keyword to search for
+     * @return An ArrayList of tasks that match the search criteria
+     */
+    public ArrayList<Task> findTasks(String keyword) {
+        return collect(matchingTasks(keyword));
+    }
+
+    /**
+     * Returns the tasks whose descriptions contain the keyword, ignoring case, like
+     * {@link #findTasks(String)}. The tasks are found one at a time as the result is iterated, so they can
+     * be written out as they are found instead of being collected first. Iterate it before changing the list.
+     *
+     * @param keyword The keyword to search for
+     * @return The matching tasks, in list order
+     */
+    public Iterable<Task> matchingTasks(String keyword) {
+        assert keyword != null : "Search keyword cannot be null";
+        assert !keyword.trim().isEmpty() : "Search keyword cannot be empty";
+        String lowerCaseKeyword = keyword.toLowerCase();
+        return () -> new MatchingIterator(tasks,
+                task -> task.getDescription().toLowerCase().contains(lowerCaseKeyword), FIND_TIME);
+    }
+
+    /**
+     * Finds tasks whose descriptions contain words within a few typing mistakes of every word of the term,
+     * as decided by {@link FuzzyTaskIndex#maxDistance(String)}. The search is case-insensitive. The first
+     * search indexes the descriptions; after that the index is kept up to date as tasks are added and
+     * deleted, so a search does not look at every task.
+     *
+     * @param term The words to search for
+     * @return An ArrayList of the matching tasks, in list order
+     */
+    public ArrayList<Task> findTasksFuzzy(String term) {
+        assert term != null : "Search term cannot be null";
+        assert !term.trim().isEmpty() : "Search term cannot be empty";
+        long start = System.nanoTime();
+        ArrayList<Task> matchingTasks = fuzzyIndex.find(term);
+        FUZZY_FIND_TIME.recordSince(start);
+        return matchingTasks;
+    }
+
+    /**
+     * Finds tasks in the list that satisfy a compiled filter. Filters on the due date or type are first
+     * narrowed down with the sorted views, so only the tasks in range are checked. Either way the matches
+     * are returned in list order.
+     *
+     * @param filter The filter to evaluate against each task
+     * @return An ArrayList of tasks that match the filter
+     */
+    public ArrayList<Task> filterTasks(TaskFilter filter) {
+        return collect(matchingTasks(filter));
+    }
+
+    /**
+     * Returns the tasks that satisfy a compiled filter, in the same order as {@link #filterTasks(TaskFilter)}.
+     * The tasks are found one at a time as the result is iterated. Iterate it before changing the list.
+     *
+     * @param filter The filter to evaluate against each task
+     * @return The matching tasks
+     */
+    public Iterable<Task> matchingTasks(TaskFilter filter) {
+        assert filter != null : "Filter cannot be null";
+        List<Task> candidates = filter.candidates(sortedViews);
+        List<Task> checked = candidates == null ? tasks : candidates;
+        return () -> new MatchingIterator(checked, filter::matches, null);
+    }
+
+    private static ArrayList<Task> collect(Iterable<Task> matchingTasks) {
+        ArrayList<Task> collected = new ArrayList<>();
+        for (Task task : matchingTasks) {
+            collected.add(task);
+        }
+        return collected;
+    }
+
+    /**
+     * Returns the tasks sorted by the given key. The first call for a key sorts the list; after that the
+     * order is kept up to date as tasks are added, marked and deleted, so later calls cost nothing.
+     *
+     * @param key The order to return the tasks in
+     * @return A read-only view of the tasks in that order
+     */
+    public Collection<Task> sortedBy(SortedTaskViews.SortKey key) {
+        assert key != null : "Sort key cannot be null";
+        long start = System.nanoTime();
+        Collection<Task> sorted = sortedViews.view(key);
+        SORT_TIME.recordSince(start);
+        return sorted;
+    }
+
+    /**
+     * Returns the counts of tasks by type, status and priority. The first call counts the list; after that
+     * the counts are updated with every change, so reading them does not depend on the size of the list.
+     *
+     * @return The summary, which stays up to date as the list changes
+     */
+    public TaskSummary getSummary() {
+        if (summary == null) {
+            summary = new TaskSummary(this);
+            addListener(summary);
+        }
+        return summary;
+    }
+
+    /**
+     * Clears all tasks from the task list.
+     */
+    public void clear() {
+        tasks.clear();
+        operationLog.clear();
+        for (TaskListListener listener : listeners) {
+            listener.tasksReplaced();
+        }
+    }
+
+    /**
+     * Reverts up to the given number of most recent changes and automatically saves.
+     * Each step applies the recorded inverse operation, so it costs about as much as the original change.
+     *
+     * @param steps The maximum number of changes to undo
+     * @return The number of changes actually undone
+     */
+    public int undo(int steps) {
+        assert steps > 0 : "Number of steps to undo must be positive: " + steps;
+        int undone = 0;
+        OperationLog.Operation operation;
+        while (undone < steps && (operation = operationLog.nextUndo()) != null) {
+            revert(operation);
+            undone++;
+        }
+        if (undone > 0) {
+            autoSave();
+        }
+        return undone;
+    }
+
+    /**
+     * Reapplies up to the given number of most recently undone changes and automatically saves.
+     *
+     * @param steps The maximum number of changes to redo
+     * @return The number of changes actually redone
+     */
+    public int redo(int steps) {
+        assert steps > 0 : "Number of steps to redo must be positive: " + steps;
+        int redone = 0;
+        OperationLog.Operation operation;
+        while (redone < steps && (operation = operationLog.nextRedo()) != null) {
+            reapply(operation);
+            redone++;
+        }
+        if (redone > 0) {
+            autoSave();
+        }
+        return redone;
+    }
+
+    /**
+     * Applies the inverse of a recorded operation without recording it again.
+     *
+     * @param operation The operation to revert
+     */
+    private void revert(OperationLog.Operation operation) {
+        switch (operation.getKind()) {
+        case ADD:
+            notifyRemoved(tasks.remove(operation.getIndex()));
+            break;
+        case ADD_BATCH:
+            List<Task> batch = tasks.subList(operation.getIndex(), operation.getIndex() + operation.getCount());
+            batch.forEach(this::notifyRemoved);
+            batch.clear();
+            break;
+        case DELETE:
+            tasks.add(operation.getIndex(), operation.getTask());
+            notifyAdded(operation.getTask());
+            break;
+        case STATUS:
+            setDone(operation.getTask(), operation.wasDone());
+            notifyStatusChanged(operation.getTask());
+            break;
+        default:
+            throw new IllegalStateException("Unknown operation: " + operation.getKind());
+        }
+    }
+
+    /**
+     * Applies a previously undone operation again without recording it.
+     *
+     * @param operation The operation to reapply
+     */
+    private void reapply(OperationLog.Operation operation) {
+        switch (operation.getKind()) {
+        case ADD:
+            tasks.add(operation.getIndex(), operation.getTask());
+            notifyAdded(operation.getTask());
+            break;
+        case ADD_BATCH:
+            for (Task[] added : operation.getBatches()) {
+                for (Task task : added) {
+                    if (task != null) {
+                        tasks.add(task);
+                        notifyAdded(task);
+                    }
+                }
+            }
+            break;
+        case DELETE:
+            notifyRemoved(tasks.remove(operation.getIndex()));
+            break;
+        case STATUS:
+            setDone(operation.getTask(), operation.isDone());
+            notifyStatusChanged(operation.getTask());
+            break;
+        default:
+            throw new IllegalStateException("Unknown operation: " + operation.getKind());
+        }
+    }
+
+    /**
+     * Sets the completion status of a task.
+     *
+     * @param task The task to update
+     * @param isDone The completion status to set
+     */
+    private void setDone(Task task, boolean isDone) {
+        if (isDone) {
+            task.markAsDone();
+        } else {
+            task.markAsNotDone();
+        }
+    }
+
+    private void notifyAdded(Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.taskAdded(task);
+        }
+    }
+
+    private void notifyRemoved(Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.taskRemoved(task);
+        }
+    }
+
+    private void notifyStatusChanged(Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.taskStatusChanged(task);
+        }
+    }
+
+    /**
+     * Writes all tasks, numbered from 1, to the given output without building one string of the whole list.
+     *
+     * @param out The output to write to
+     * @throws IOException If writing to the output fails
+     */
+    public void renderTo(Appendable out) throws IOException {
+        if (tasks.isEmpty()) {
+            out.append("Your task list is empty.");
+            return;
+        }
+        out.append("Here are the tasks in your list:\n");
+        renderTo(out, 0, tasks.size());
+    }
+
+    /**
+     * Writes the tasks between the given 0-based indices, one numbered line each, to the given output.
+     * Lines are separated by '\n' and the last line is not terminated.
+     *
+     * @param out The output to write to
+     * @param fromIndex The index of the first task, inclusive
+     * @param toIndex The index after the last task, exclusive
+     * @throws IOException If writing to the output fails
+     */
+    public void renderTo(Appendable out, int fromIndex, int toIndex) throws IOException {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (i > fromIndex) {
+                out.append('\n');
+            }
+            out.append(Integer.toString(i + 1)).append('.');
+            tasks.get(i).renderTo(out);
+        }
+    }
+
+    /**
+     * Returns a string representation of all tasks in the list.
+     * Each task is numbered starting from 1.
+     *
+     * @return A formatted string of all tasks, or a message if empty
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            renderTo(sb);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Automatically saves the task list to storage if storage is available.
+     * This method is called after any modification to the task list.
+     */
+    private void autoSave() {
+        if (autoSaveDeferrals > 0) {
+            hasUnsavedChanges = true;
+            return;
+        }
+        hasUnsavedChanges = false;
+        if (storage != null) {
+            applyExternalChange(storage.save(tasks));
+        }
+    }
+
+    /**
+     * Walks a list of tasks and returns those that satisfy a predicate, recording the search in the metrics
+     * once the list has been walked to the end. Only the time spent walking the list is recorded, not the
+     * time the caller spends on each match in between, such as writing it out.
+     */
+    private static class MatchingIterator implements Iterator<Task> {
+        private final List<Task> checked;
+        private final Iterator<Task> source;
+        private final Predicate<Task> predicate;
+        private final LatencyHistogram time;
+        private long scanNanos;
+        private Task next;
+        private boolean isFinished;
+
+        MatchingIterator(List<Task> checked, Predicate<Task> predicate, LatencyHistogram time) {
+            this.checked = checked;
+            this.source = checked.iterator();
+            this.predicate = predicate;
+            this.time = time;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null || isFinished) {
+                return next != null;
+            }
+            long start = System.nanoTime();
+            while (next == null && source.hasNext()) {
+                Task task = source.next();
+                if (predicate.test(task)) {
+                    next = task;
+                }
+            }
+            scanNanos += System.nanoTime() - start;
+            if (next == null) {
+                isFinished = true;
+                Metrics.addTasksScanned(checked.size());
+                if (time != null) {
+                    time.record(scanNanos);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Task task = next;
+            next = null;
+            return task;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package monday.task;
+
+/**
+ * Receives the changes made to a {@link TaskList}, including those made by undo, redo and edits that
+ * another program made to the data file. Methods are called on the thread that made the change, right
+ * after it, so they should return quickly.
+ */
+public interface TaskListListener {
+    /**
+     * Called after a task was added to the list, before the next task is added, so that it is already
+     * at its position in the list.
+     *
+     * @param task The added task
+     */
+    void taskAdded(Task task);
+
+    /**
+     * Called after a task was removed from the list.
+     *
+     * @param task The removed task
+     */
+    void taskRemoved(Task task);
+
+    /**
+     * Called after a task was marked as done or not done, or its priority was changed.
+     *
+     * @param task The changed task
+     */
+    void taskStatusChanged(Task task);
+
+    /**
+     * Called after the whole list was replaced or cleared, such as when it is loaded from storage.
+     * Listeners that keep state per task should rebuild it from the list.
+     */
+    void tasksReplaced();
+}
@@ -0,0 +1,323 @@
+package monday.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Counts the tasks of a {@link TaskList} by type, status and priority, and counts the pending deadlines
+ * and events that are overdue or due today. Registered as a listener, it updates the counts for each
+ * changed task instead of looking at the whole list, so reading them takes constant time.
+ *
+ * <p>Overdue and due-today counts depend on the time as well as the list. Pending due dates are counted
+ * per minute in a sorted map; the number overdue is kept as a running total that is moved forward over
+ * the minutes that have passed since it was last read, so each minute is added only once. Repeating
+ * tasks move on to their next occurrence at midnight, so their due dates are worked out again when the
+ * date changes.</p>
+ */
+public class TaskSummary implements TaskListListener {
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private static final int TODO = 0;
+    private static final int DEADLINE = 1;
+    private static final int EVENT = 2;
+
+    /**
+     * What a task contributed to the counts when it was last seen.
+     */
+    private static final class Snapshot {
+        private final int type;
+        private final boolean isDone;
+        private final Task.Priority priority;
+        private final long dueMinute;
+
+        private Snapshot(Task task) {
+            this.type = task instanceof Deadline ? DEADLINE : task instanceof Event ? EVENT : TODO;
+            this.isDone = task.isDone();
+            this.priority = task.getPriority();
+            LocalDateTime due = null;
+            if (task instanceof Deadline) {
+                due = ((Deadline) task).getCurrentDueDateTime();
+            } else if (task instanceof Event) {
+                due = ((Event) task).getCurrentStartDateTime();
+            }
+            this.dueMinute = due == null ? Long.MIN_VALUE : toMinute(due);
+        }
+    }
+
+    /**
+     * Numbers of due dates per minute, with running totals for the minutes before a moving point in time
+     * and for the current day.
+     */
+    private static final class TimeBuckets {
+        private final NavigableMap<Long, Integer> counts = new TreeMap<>();
+        private long passedBefore = Long.MIN_VALUE;
+        private int passedCount;
+        private long day = Long.MIN_VALUE;
+        private int dayCount;
+
+        private void add(long minute, int delta) {
+            counts.merge(minute, delta, (count, change) -> count + change == 0 ? null : count + change);
+            if (minute < passedBefore) {
+                passedCount += delta;
+            }
+            if (Math.floorDiv(minute, MINUTES_PER_DAY) == day) {
+                dayCount += delta;
+            }
+        }
+
+        /**
+         * Returns the number of due dates before the given minute. Moving forward costs one step per
+         * minute that has due dates; moving backward, such as after a clock change, counts again.
+         */
+        private int countBefore(long minute) {
+            if (minute < passedBefore) {
+                passedCount = sum(counts.headMap(minute, false));
+            } else if (minute > passedBefore) {
+                passedCount += sum(passedBefore == Long.MIN_VALUE
+                        ? counts.headMap(minute, false)
+                        : counts.subMap(passedBefore, true, minute, false));
+            }
+            passedBefore = minute;
+            return passedCount;
+        }
+
+        /**
+         * Returns the number of due dates on the given day, counting them only when the day changes.
+         */
+        private int countOnDay(long epochDay) {
+            if (epochDay != day) {
+                day = epochDay;
+                dayCount = sum(counts.subMap(epochDay * MINUTES_PER_DAY, true,
+                        (epochDay + 1) * MINUTES_PER_DAY, false));
+            }
+            return dayCount;
+        }
+
+        private static int sum(Map<Long, Integer> range) {
+            int total = 0;
+            for (int count : range.values()) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    private final TaskList taskList;
+    private final Map<Task, Snapshot> snapshots = new IdentityHashMap<>();
+    private final Set<Task> repeatingTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final int[] typeCounts = new int[3];
+    private final int[] priorityCounts = new int[Task.Priority.values().length];
+    private int doneCount;
+    private TimeBuckets pendingDeadlines = new TimeBuckets();
+    private TimeBuckets pendingEvents = new TimeBuckets();
+    private long repeatingDay = Long.MIN_VALUE;
+    private boolean isStale = true;
+
+    /**
+     * Constructs the summary of a task list. Register it as a listener of the list to keep it up to date.
+     *
+     * @param taskList The list to count
+     */
+    public TaskSummary(TaskList taskList) {
+        this.taskList = taskList;
+    }
+
+    /**
+     * Returns the number of tasks.
+     *
+     * @return The number of tasks
+     */
+    public int getTotal() {
+        refresh();
+        return snapshots.size();
+    }
+
+    /**
+     * Returns the number of todos.
+     *
+     * @return The number of todos
+     */
+    public int getTodos() {
+        refresh();
+        return typeCounts[TODO];
+    }
+
+    /**
+     * Returns the number of deadlines.
+     *
+     * @return The number of deadlines
+     */
+    public int getDeadlines() {
+        refresh();
+        return typeCounts[DEADLINE];
+    }
+
+    /**
+     * Returns the number of events.
+     *
+     * @return The number of events
+     */
+    public int getEvents() {
+        refresh();
+        return typeCounts[EVENT];
+    }
+
+    /**
+     * Returns the number of tasks that are done.
+     *
+     * @return The number of done tasks
+     */
+    public int getDone() {
+        refresh();
+        return doneCount;
+    }
+
+    /**
+     * Returns the number of tasks that are not done.
+     *
+     * @return The number of pending tasks
+     */
+    public int getPending() {
+        refresh();
+        return snapshots.size() - doneCount;
+    }
+
+    /**
+     * Returns the number of tasks with the given priority.
+     *
+     * @param priority The priority to count
+     * @return The number of tasks with that priority
+     */
+    public int getPriorityCount(Task.Priority priority) {
+        refresh();
+        return priorityCounts[priority.ordinal()];
+    }
+
+    /**
+     * Returns the number of pending deadlines whose due date has passed.
+     *
+     * @param now The current time
+     * @return The number of overdue deadlines
+     */
+    public int getOverdue(LocalDateTime now) {
+        refreshRepeating(now);
+        return pendingDeadlines.countBefore(toMinute(now) + 1);
+    }
+
+    /**
+     * Returns the number of pending deadlines due today and pending events that start today.
+     *
+     * @param now The current time
+     * @return The number of tasks due today
+     */
+    public int getDueToday(LocalDateTime now) {
+        refreshRepeating(now);
+        long today = now.toLocalDate().toEpochDay();
+        return pendingDeadlines.countOnDay(today) + pendingEvents.countOnDay(today);
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        if (!isStale) {
+            count(task);
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        if (isStale) {
+            return;
+        }
+        Snapshot snapshot = snapshots.remove(task);
+        if (snapshot != null) {
+            apply(snapshot, -1);
+            repeatingTasks.remove(task);
+        }
+    }
+
+    @Override
+    public void taskStatusChanged(Task task) {
+        if (isStale) {
+            return;
+        }
+        Snapshot snapshot = snapshots.get(task);
+        if (snapshot != null) {
+            apply(snapshot, -1);
+            count(task);
+        }
+    }
+
+    @Override
+    public void tasksReplaced() {
+        isStale = true;
+    }
+
+    /**
+     * Counts the whole list again if it was replaced since the counts were last read.
+     */
+    private void refresh() {
+        if (!isStale) {
+            return;
+        }
+        snapshots.clear();
+        repeatingTasks.clear();
+        Arrays.fill(typeCounts, 0);
+        Arrays.fill(priorityCounts, 0);
+        doneCount = 0;
+        pendingDeadlines = new TimeBuckets();
+        pendingEvents = new TimeBuckets();
+        isStale = false;
+        for (Task task : taskList) {
+            count(task);
+        }
+    }
+
+    /**
+     * Works out the current occurrence of every repeating task again once the date has changed.
+     */
+    private void refreshRepeating(LocalDateTime now) {
+        refresh();
+        long today = now.toLocalDate().toEpochDay();
+        if (today == repeatingDay) {
+            return;
+        }
+        repeatingDay = today;
+        for (Task task : new ArrayList<>(repeatingTasks)) {
+            apply(snapshots.get(task), -1);
+            count(task);
+        }
+    }
+
+    private void count(Task task) {
+        Snapshot snapshot = new Snapshot(task);
+        snapshots.put(task, snapshot);
+        if (task.isRepeating()) {
+            repeatingTasks.add(task);
+        }
+        apply(snapshot, 1);
+    }
+
+    private void apply(Snapshot snapshot, int delta) {
+        typeCounts[snapshot.type] += delta;
+        priorityCounts[snapshot.priority.ordinal()] += delta;
+        if (snapshot.isDone) {
+            doneCount += delta;
+        } else if (snapshot.type == DEADLINE) {
+            pendingDeadlines.add(snapshot.dueMinute, delta);
+        } else if (snapshot.type == EVENT) {
+            pendingEvents.add(snapshot.dueMinute, delta);
+        }
+    }
+
+    private static long toMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
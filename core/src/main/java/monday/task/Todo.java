@@ -1,5 +1,7 @@
 package monday.task;
 
+import java.io.IOException;
+
 /**
  * Represents a simple todo task without any date/time constraints.
  * This is the most basic type of task in the Monday task manager.
@@ -29,17 +31,19 @@ public class Todo extends Task {
     }
 
     /**
-     * Returns a string representation of this todo task.
+     * Writes the display form of this todo task to the given output.
      * The format is "[T][status icon] [priority icon] [description]" where:
      * - [T] indicates this is a Todo task
      * - [status icon] shows [X] if done, [ ] if not done
      * - [priority icon] shows (!!) for HIGH, (!) for MEDIUM, () for LOW
      * - [description] is the task description
      *
-     * @return A formatted string representation of this todo task
+     * @param out The output to write to
+     * @throws IOException If writing to the output fails
      */
     @Override
-    public String toString() {
-        return "[T]" + getStatusIcon() + " " + getPriorityIcon() + " " + description;
+    public void renderTo(Appendable out) throws IOException {
+        out.append("[T]");
+        super.renderTo(out);
     }
 }
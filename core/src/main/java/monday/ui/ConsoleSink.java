@@ -0,0 +1,62 @@
+package monday.ui;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * A response sink that writes to the console, used by the command-line interface.
+ * Output is collected in a single buffer and only reaches the terminal when {@link #flush()} is called
+ * or the buffer fills up, so long results are written in large chunks rather than line by line.
+ */
+public class ConsoleSink implements ResponseSink {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final PrintWriter out;
+
+    /**
+     * Constructs a ConsoleSink that writes to standard output.
+     */
+    public ConsoleSink() {
+        this(System.out);
+    }
+
+    /**
+     * Constructs a ConsoleSink that writes to the given stream.
+     *
+     * @param out The stream to write to
+     */
+    public ConsoleSink(OutputStream out) {
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out), BUFFER_SIZE), false);
+    }
+
+    @Override
+    public ConsoleSink append(CharSequence text) {
+        out.append(text);
+        return this;
+    }
+
+    @Override
+    public ConsoleSink append(CharSequence text, int start, int end) {
+        out.append(text, start, end);
+        return this;
+    }
+
+    @Override
+    public ConsoleSink append(char c) {
+        out.append(c);
+        return this;
+    }
+
+    @Override
+    public ConsoleSink newLine() {
+        out.println();
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
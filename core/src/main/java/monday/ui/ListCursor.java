@@ -0,0 +1,54 @@
+package monday.ui;
+
+import monday.task.SortedTaskViews;
+
+/**
+ * Remembers where the last paged listing stopped so that the 'more' command can continue from there.
+ * One cursor belongs to one user session.
+ */
+public class ListCursor {
+    private int nextIndex = -1;
+    private int pageSize;
+    private SortedTaskViews.SortKey sortKey;
+
+    /**
+     * Records that a page ending just before the given index has been shown.
+     *
+     * @param nextIndex The 0-based index of the first task on the following page
+     * @param pageSize The number of tasks per page
+     * @param sortKey The order of the listing, or null for list order
+     */
+    void advance(int nextIndex, int pageSize, SortedTaskViews.SortKey sortKey) {
+        this.nextIndex = nextIndex;
+        this.pageSize = pageSize;
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Forgets the current position, for example once the last page has been shown.
+     */
+    void reset() {
+        nextIndex = -1;
+    }
+
+    /**
+     * Checks whether there is a listing to continue.
+     *
+     * @return True if 'more' has a page to show
+     */
+    boolean hasNext() {
+        return nextIndex >= 0;
+    }
+
+    int getNextIndex() {
+        return nextIndex;
+    }
+
+    int getPageSize() {
+        return pageSize;
+    }
+
+    SortedTaskViews.SortKey getSortKey() {
+        return sortKey;
+    }
+}
@@ -0,0 +1,68 @@
+package monday.ui;
+
+/**
+ * Destination for the text that {@link Ui} produces in response to a command.
+ * Unlike a plain {@link Appendable}, writing to a sink never throws a checked exception.
+ */
+public interface ResponseSink extends Appendable {
+    @Override
+    ResponseSink append(CharSequence text);
+
+    @Override
+    ResponseSink append(CharSequence text, int start, int end);
+
+    @Override
+    ResponseSink append(char c);
+
+    /**
+     * Ends the current line.
+     *
+     * @return This sink
+     */
+    ResponseSink newLine();
+
+    /**
+     * Writes a non-negative number in decimal without allocating a string.
+     *
+     * @param number The number to write
+     * @return This sink
+     */
+    default ResponseSink appendNumber(int number) {
+        assert number >= 0 : "Number must not be negative: " + number;
+        int divisor = 1;
+        while (number / divisor >= 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            append((char) ('0' + number / divisor % 10));
+            divisor /= 10;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the given text followed by a line break.
+     *
+     * @param text The text to write
+     * @return This sink
+     */
+    default ResponseSink println(CharSequence text) {
+        return append(text).newLine();
+    }
+
+    /**
+     * Writes a line break.
+     *
+     * @return This sink
+     */
+    default ResponseSink println() {
+        return newLine();
+    }
+
+    /**
+     * Pushes any text written so far to its destination.
+     * Sinks that do not buffer need not do anything.
+     */
+    default void flush() {
+    }
+}
@@ -0,0 +1,49 @@
+package monday.ui;
+
+/**
+ * A response sink that collects text in memory, used to build replies for the GUI.
+ * Each instance is meant to be used by one command at a time, so no synchronization is needed.
+ */
+public class StringBuilderSink implements ResponseSink {
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Override
+    public StringBuilderSink append(CharSequence text) {
+        buffer.append(text);
+        return this;
+    }
+
+    @Override
+    public StringBuilderSink append(CharSequence text, int start, int end) {
+        buffer.append(text, start, end);
+        return this;
+    }
+
+    @Override
+    public StringBuilderSink append(char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    @Override
+    public StringBuilderSink appendNumber(int number) {
+        buffer.append(number);
+        return this;
+    }
+
+    @Override
+    public StringBuilderSink newLine() {
+        buffer.append('\n');
+        return this;
+    }
+
+    /**
+     * Returns everything written to this sink so far.
+     *
+     * @return The collected text
+     */
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,552 @@
+package monday.ui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Scanner;
+
+import monday.metrics.Metrics;
+import monday.reminder.Reminder;
+import monday.task.SortedTaskViews;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.TaskSummary;
+
+/**
+ * Handles all user interface interactions for the Monday task manager.
+ * Follows Single Responsibility Principle - only handles UI operations.
+ */
+public class Ui {
+    /** Number of tasks shown by 'list' when no page size is given. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    /** Largest page size accepted, so a single response stays a manageable size. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final ResponseSink out;
+    private final ListCursor cursor;
+    private Scanner scanner;
+
+    /**
+     * Constructs a new Ui instance that reads from standard input and writes to the console.
+     */
+    public Ui() {
+        this(new ConsoleSink());
+        this.scanner = new Scanner(System.in);
+    }
+
+    /**
+     * Constructs a new Ui instance that writes its responses to the given sink.
+     * Standard input is only opened if {@link #readCommand()} is called.
+     *
+     * @param out The sink that receives all output
+     */
+    public Ui(ResponseSink out) {
+        this(out, new ListCursor());
+    }
+
+    /**
+     * Constructs a new Ui instance that writes to the given sink and continues listings from the given cursor.
+     * Used when a new Ui is created for every command but paging state must survive between commands.
+     *
+     * @param out The sink that receives all output
+     * @param cursor The cursor of the current user session
+     */
+    public Ui(ResponseSink out, ListCursor cursor) {
+        this.out = out;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Displays the welcome message with ASCII art logo when the application starts.
+     */
+    public void showWelcome() {
+        String logo = " __  __                 _             \n"
+                + "|  \\/  |               | |            \n"
+                + "| \\  / | ___  _ __   __| | __ _ _   _  \n"
+                + "| |\\/| |/ _ \\| '_ \\ / _` |/ _` | | | | \n"
+                + "| |  | | (_) | | | | (_| | (_| | |_| | \n"
+                + "|_|  |_|\\___/|_| |_|\\__,_|\\__,_|\\__, | \n"
+                + "                                __/ | \n"
+                + "                               |___/  \n";
+
+        out.println("Hello I'm\n" + logo);
+        out.println("What can I do for you?\n");
+    }
+
+    /**
+     * Reads a command from the user.
+     *
+     * @return The user's command as a string
+     */
+    public String readCommand() {
+        out.append("> ");
+        out.flush();
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
+        return scanner.nextLine();
+    }
+
+    /**
+     * Displays a goodbye message when the application exits.
+     */
+    public void showGoodbye() {
+        out.println("Bye. Hope to see you again soon!");
+    }
+
+    /**
+     * Displays the first page of the task list using the default page size.
+     *
+     * @param taskList The TaskList object to display
+     */
+    public void showTaskList(TaskList taskList) {
+        showTaskList(taskList, 1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Displays one page of the task list. Only the tasks on the requested page are visited.
+     * If more tasks follow, the session cursor remembers where to continue for the 'more' command.
+     *
+     * @param taskList The TaskList object to display
+     * @param page The 1-based page number
+     * @param pageSize The number of tasks per page
+     */
+    public void showTaskList(TaskList taskList, int page, int pageSize) {
+        assert page > 0 : "Page number must be positive: " + page;
+        assert pageSize > 0 && pageSize <= MAX_PAGE_SIZE : "Invalid page size: " + pageSize;
+        cursor.reset();
+        if (taskList.isEmpty()) {
+            out.println("Your task list is empty.");
+            return;
+        }
+        long fromIndex = (long) (page - 1) * pageSize;
+        if (fromIndex >= taskList.size()) {
+            out.println("There is no page " + page + ". You have " + taskList.size() + " tasks, "
+                    + pageCount(taskList.size(), pageSize) + " pages of " + pageSize + ".");
+            return;
+        }
+        out.println("Here are the tasks in your list:");
+        showTaskPage(taskList, (int) fromIndex, pageSize);
+    }
+
+    /**
+     * Displays the next page of the most recent listing.
+     *
+     * @param taskList The TaskList object to display
+     */
+    public void showMoreTasks(TaskList taskList) {
+        if (!cursor.hasNext() || cursor.getNextIndex() >= taskList.size()) {
+            cursor.reset();
+            out.println("No more tasks to show. Use 'list' to start from the beginning.");
+            return;
+        }
+        SortedTaskViews.SortKey key = cursor.getSortKey();
+        if (key == null) {
+            showTaskPage(taskList, cursor.getNextIndex(), cursor.getPageSize());
+        } else {
+            showSortedPage(taskList.sortedBy(key), key, cursor.getNextIndex(), cursor.getPageSize());
+        }
+    }
+
+    /**
+     * Writes the tasks from the given index onwards, up to one page, followed by a position summary.
+     *
+     * @param taskList The TaskList object to display
+     * @param fromIndex The 0-based index of the first task to show
+     * @param pageSize The maximum number of tasks to show
+     */
+    private void showTaskPage(TaskList taskList, int fromIndex, int pageSize) {
+        int toIndex = (int) Math.min((long) fromIndex + pageSize, taskList.size());
+        writePage(taskList.slice(fromIndex, toIndex), fromIndex, taskList.size(), pageSize, null);
+    }
+
+    /**
+     * Writes one page of sorted tasks from the given position onwards, followed by a position summary.
+     * The tasks before the page are skipped without being written.
+     *
+     * @param sortedTasks The tasks in sorted order
+     * @param key The order the tasks are in
+     * @param fromIndex The 0-based position of the first task to show
+     * @param pageSize The maximum number of tasks to show
+     */
+    private void showSortedPage(Collection<Task> sortedTasks, SortedTaskViews.SortKey key, int fromIndex,
+            int pageSize) {
+        int total = sortedTasks.size();
+        int toIndex = (int) Math.min((long) fromIndex + pageSize, total);
+        Iterator<Task> iterator = sortedTasks.iterator();
+        for (int i = 0; i < fromIndex; i++) {
+            iterator.next();
+        }
+        List<Task> page = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            page.add(iterator.next());
+        }
+        writePage(page, fromIndex, total, pageSize, key);
+    }
+
+    /**
+     * Writes a page of tasks numbered from their position, then either how to see the next page, or where
+     * the last page started if it was not the first.
+     *
+     * @param page The tasks on the page
+     * @param fromIndex The 0-based position of the first task on the page
+     * @param total The number of tasks in the whole listing
+     * @param pageSize The number of tasks per page
+     * @param key The order of the listing, or null for list order
+     */
+    private void writePage(List<Task> page, int fromIndex, int total, int pageSize, SortedTaskViews.SortKey key) {
+        int toIndex = fromIndex + page.size();
+        int taskNumber = fromIndex + 1;
+        for (Task task : page) {
+            out.appendNumber(taskNumber++).append('.');
+            writeTask(task);
+            out.newLine();
+        }
+        if (toIndex < total) {
+            cursor.advance(toIndex, pageSize, key);
+            out.println("Showing tasks " + (fromIndex + 1) + "-" + toIndex + " of " + total
+                    + ". Type 'more' to see the next " + Math.min(pageSize, total - toIndex) + ".");
+        } else {
+            cursor.reset();
+            if (fromIndex > 0) {
+                out.println("Showing tasks " + (fromIndex + 1) + "-" + toIndex + " of " + total + ".");
+            }
+        }
+    }
+
+    private static long pageCount(int total, int pageSize) {
+        return ((long) total + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Displays a message confirming that tasks have been loaded from storage.
+     *
+     * @param numberOfTasks The number of tasks loaded
+     */
+    public void showLoadedTasksMessage(int numberOfTasks) {
+        out.println("Successfully loaded " + numberOfTasks + " tasks from storage.");
+    }
+
+    /**
+     * Displays a confirmation message when a task's status is changed.
+     *
+     * @param task The task that was marked or unmarked
+     * @param isMarked True if the task was marked, false if it was unmarked
+     */
+    public void showMarkUnmarkMessage(Task task, boolean isMarked) {
+        out.append(isMarked
+                ? "Nice! I've marked this task as done:"
+                : "OK, I've marked this task as not done yet:").append("\n  ");
+        writeTask(task);
+        out.newLine();
+    }
+
+    /**
+     * Displays a confirmation message when a new task is added.
+     *
+     * @param task The task that was added
+     * @param totalTasks The total number of tasks after addition
+     */
+    public void showTaskAddedMessage(Task task, int totalTasks) {
+        out.println("Got it. I've added this task:");
+        out.append("  ");
+        writeTask(task);
+        out.newLine();
+        out.append("Now you have ").appendNumber(totalTasks).println(" tasks in the list.");
+    }
+
+    /**
+     * Displays a confirmation message when a task is deleted.
+     *
+     * @param deletedTask The task that was removed
+     * @param remainingTasks The number of tasks remaining after deletion
+     */
+    public void showTaskDeletedMessage(Task deletedTask, int remainingTasks) {
+        out.println("Noted. I've removed this task:");
+        out.append("  ");
+        writeTask(deletedTask);
+        out.newLine();
+        out.append("Now you have ").appendNumber(remainingTasks).println(" tasks in the list.");
+    }
+
+    /**
+     * Displays the matching tasks found during search, writing each one as soon as the search finds it,
+     * so that a large result is never held in memory as a whole.
+     *
+     * @param matchingTasks The tasks that match the search criteria, found as they are iterated
+     */
+    public void showMatchingTasks(Iterable<Task> matchingTasks) {
+        int taskNumber = 1;
+        for (Task task : matchingTasks) {
+            if (taskNumber == 1) {
+                out.println("Here are the matching tasks in your list:");
+            }
+            out.appendNumber(taskNumber++).append('.');
+            writeTask(task);
+            out.newLine();
+        }
+        if (taskNumber == 1) {
+            out.println("No matching tasks found.");
+        }
+    }
+
+    /**
+     * Displays the first page of the tasks in a sorted order, numbered from 1, using the default page size.
+     * If more tasks follow, the session cursor remembers where to continue for the 'more' command.
+     *
+     * @param sortedTasks The tasks in sorted order
+     * @param key The order the tasks are in
+     */
+    public void showSortedTasks(Collection<Task> sortedTasks, SortedTaskViews.SortKey key) {
+        cursor.reset();
+        if (sortedTasks.isEmpty()) {
+            out.println("Your task list is empty.");
+            return;
+        }
+        out.println("Here are the tasks in your list, sorted by " + key + ":");
+        showSortedPage(sortedTasks, key, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Displays the number of tasks by type, status and priority, and how many are overdue or due today.
+     *
+     * @param summary The counts to show
+     * @param now The current time, used for the overdue and due-today counts
+     */
+    public void showSummary(TaskSummary summary, LocalDateTime now) {
+        if (summary.getTotal() == 0) {
+            out.println("Your task list is empty.");
+            return;
+        }
+        out.println("Here is a summary of your " + summary.getTotal() + " tasks:");
+        out.println("  Todos: " + summary.getTodos() + ", deadlines: " + summary.getDeadlines()
+                + ", events: " + summary.getEvents());
+        out.println("  Done: " + summary.getDone() + ", pending: " + summary.getPending());
+        out.println("  Priority: " + summary.getPriorityCount(Task.Priority.HIGH) + " high, "
+                + summary.getPriorityCount(Task.Priority.MEDIUM) + " medium, "
+                + summary.getPriorityCount(Task.Priority.LOW) + " low");
+        out.println("  Overdue: " + summary.getOverdue(now) + ", due today: " + summary.getDueToday(now));
+    }
+
+    /**
+     * Displays a confirmation message after changes are undone or redone.
+     *
+     * @param count The number of changes that were undone or redone
+     * @param isUndo True if the changes were undone, false if they were redone
+     */
+    public void showUndoRedoMessage(int count, boolean isUndo) {
+        if (count == 0) {
+            out.println(isUndo ? "Nothing to undo." : "Nothing to redo.");
+        } else {
+            out.println((isUndo ? "Undid " : "Redid ") + count + (count == 1 ? " change." : " changes."));
+        }
+    }
+
+    /**
+     * Displays a confirmation message after tasks are exported.
+     *
+     * @param count The number of tasks written
+     * @param fileName The file the tasks were written to
+     */
+    public void showExportMessage(int count, String fileName) {
+        out.println("Exported " + count + " tasks to " + fileName + ".");
+    }
+
+    /**
+     * Displays the latency percentiles and counters collected since the program started.
+     */
+    public void showStats() {
+        try {
+            Metrics.writeReport(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Displays a confirmation message after the statistics are written to a file.
+     *
+     * @param fileName The file the statistics were written to
+     */
+    public void showStatsExportMessage(String fileName) {
+        out.println("Statistics written to " + fileName + ".");
+    }
+
+    /**
+     * Displays a summary after tasks are imported.
+     *
+     * @param imported The number of tasks added
+     * @param skipped The number of records that could not be read
+     * @param totalTasks The total number of tasks after the import
+     */
+    public void showImportMessage(int imported, int skipped, int totalTasks) {
+        out.println("Imported " + imported + " tasks"
+                + (skipped > 0 ? " (skipped " + skipped + " invalid records)." : "."));
+        out.println("Now you have " + totalTasks + " tasks in the list.");
+    }
+
+    /**
+     * Displays help information showing all available commands and their usage.
+     */
+    public void showHelp() {
+        out.println("Here are the available commands:\n");
+        out.println("1. list - Display tasks one page at a time");
+        out.println("   Usage: list [/page <number>] [/size <tasks_per_page>]");
+        out.println("   Example: list /page 2 /size 20");
+        out.println();
+        out.println("2. more - Show the next page of the last listing");
+        out.println("   Usage: more");
+        out.println();
+        out.println("3. todo - Add a simple task");
+        out.println("   Usage: todo <description>");
+        out.println("   Example: todo read book");
+        out.println();
+        out.println("4. deadline - Add a task with a due date");
+        out.println("   Usage: deadline <description> /by <yyyy-MM-dd HHmm> [/every <day|week|month>]");
+        out.println("   Example: deadline return book /by 2024-12-31 1800");
+        out.println();
+        out.println("5. event - Add an event with start and end times");
+        out.println("   Usage: event <description> /from <yyyy-MM-dd HHmm> /to <yyyy-MM-dd HHmm>");
+        out.println("          [/every <day|week|month>]");
+        out.println("   Example: event project meeting /from 2024-12-01 1400 /to 2024-12-01 1600");
+        out.println();
+        out.println("6. mark - Mark a task as completed");
+        out.println("   Usage: mark <task_number>");
+        out.println("   Example: mark 1");
+        out.println();
+        out.println("7. unmark - Mark a task as not completed");
+        out.println("   Usage: unmark <task_number>");
+        out.println("   Example: unmark 1");
+        out.println();
+        out.println("8. delete - Remove a task from the list");
+        out.println("   Usage: delete <task_number>");
+        out.println("   Example: delete 1");
+        out.println();
+        out.println("9. find - Search for tasks containing a keyword; start it with ~ to allow for typos");
+        out.println("   Usage: find <keyword> | find ~<words>");
+        out.println("   Example: find ~grocerys");
+        out.println();
+        out.println("10. query - Filter tasks with conditions");
+        out.println("    Usage: query <condition> [AND|OR <condition>]...");
+        out.println("    Conditions: type:<todo|deadline|event>, done:<true|false>, priority>=<level>,");
+        out.println("                due<yyyy-MM-dd, text:<word>");
+        out.println("    Example: query type:deadline AND done:false AND due<2025-01-01");
+        out.println();
+        out.println("11. sort - Show all tasks in order of due date, priority, description or type");
+        out.println("    Usage: sort /by <due|priority|description|type>");
+        out.println("    Example: sort /by due");
+        out.println();
+        out.println("12. summary - Count tasks by type, status and priority, and show how many are overdue");
+        out.println("    Usage: summary");
+        out.println();
+        out.println("13. undo - Revert the most recent changes");
+        out.println("    Usage: undo [number_of_changes]");
+        out.println("    Example: undo 2");
+        out.println();
+        out.println("14. redo - Reapply changes that were undone");
+        out.println("    Usage: redo [number_of_changes]");
+        out.println("    Example: redo");
+        out.println();
+        out.println("15. export - Save all tasks to a CSV or JSON file");
+        out.println("    Usage: export <file> [/format csv|json]");
+        out.println("    Example: export tasks.json");
+        out.println();
+        out.println("16. import - Add tasks from a CSV or JSON file");
+        out.println("    Usage: import <file>");
+        out.println("    Example: import tasks.csv");
+        out.println();
+        out.println("17. stats - Show command latency percentiles and counters");
+        out.println("    Usage: stats [/export <file>]");
+        out.println("    Example: stats /export stats.txt");
+        out.println();
+        out.println("18. help - Show this help message");
+        out.println("    Usage: help");
+        out.println();
+        out.println("19. bye - Exit the application");
+        out.println("    Usage: bye");
+        out.println();
+        out.println("Note: Task numbers are 1-based (start from 1)");
+        out.println("Date format: yyyy-MM-dd HHmm (e.g., 2024-12-31 1800 for Dec 31, 2024 at 6:00 PM)");
+    }
+
+    /**
+     * Displays a reminder that a deadline is near or an event is about to start.
+     *
+     * @param reminder The reminder that is due
+     * @param now The current time, used to say how far away the task is
+     */
+    public void showReminder(Reminder reminder, LocalDateTime now) {
+        String remaining = formatRemaining(Duration.between(now, reminder.getTime()));
+        out.append("Reminder: ").append(reminder.isEvent() ? "this event starts " : "this deadline is due ")
+                .append(remaining).append(":\n  ");
+        writeTask(reminder.getTask());
+        out.newLine();
+    }
+
+    /**
+     * Formats the time until a task in the largest unit that keeps it readable, rounded up.
+     *
+     * @param remaining The time until the task
+     * @return Text such as "in 10 minutes", or "now" if less than a minute is left
+     */
+    private static String formatRemaining(Duration remaining) {
+        long minutes = (remaining.toSeconds() + 59) / 60;
+        if (minutes <= 0) {
+            return "now";
+        }
+        if (minutes < 60) {
+            return "in " + minutes + (minutes == 1 ? " minute" : " minutes");
+        }
+        long hours = (minutes + 30) / 60;
+        if (hours < 48) {
+            return "in " + hours + (hours == 1 ? " hour" : " hours");
+        }
+        return "in " + (hours + 12) / 24 + " days";
+    }
+
+    /**
+     * Displays an error message to the user.
+     *
+     * @param message The error message to display
+     */
+    public void showError(String message) {
+        out.println(message);
+    }
+
+    /**
+     * Writes a task's display form straight into the output sink.
+     *
+     * @param task The task to write
+     */
+    private void writeTask(Task task) {
+        try {
+            task.renderTo(out);
+        } catch (IOException e) {
+            // Response sinks never throw IOException
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes out any buffered output.
+     * Called once after each command so that the whole response reaches the terminal in one go.
+     */
+    public void flush() {
+        out.flush();
+    }
+
+    /**
+     * Closes the scanner to release system resources.
+     */
+    public void close() {
+        out.flush();
+        if (scanner != null) {
+            scanner.close();
+        }
+    }
+}
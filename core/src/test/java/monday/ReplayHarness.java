@@ -0,0 +1,104 @@
+package monday;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import monday.metrics.LatencyHistogram;
+import monday.metrics.Metrics;
+
+/**
+ * Replays a workload from {@link WorkloadGenerator} through {@link Monday} in this process and reports
+ * load time, throughput, latency percentiles, peak heap and bytes written.
+ * The data file is copied to a temporary directory first, so a workload can be replayed more than once.
+ * Every command goes through {@link Monday#getResponse(String)}, including the save after each change.
+ *
+ * <p>Usage: {@code ReplayHarness <workload directory>}, or {@code gradlew :core:replayWorkload}.</p>
+ */
+public class ReplayHarness {
+    private static final LatencyHistogram COMMAND_TIME = Metrics.histogram("replay command");
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    /**
+     * Runs the replay and prints the results, followed by the per-operation breakdown of {@code stats}.
+     *
+     * @param args The directory with the generated data file and command script
+     * @throws IOException If the workload cannot be read or copied
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: ReplayHarness <workload directory>");
+            return;
+        }
+        Path workload = Path.of(args[0]);
+        Path workingDir = Files.createTempDirectory("monday-replay");
+        Path dataFile = workingDir.resolve(WorkloadGenerator.DATA_FILE);
+        Files.copy(workload.resolve(WorkloadGenerator.DATA_FILE), dataFile, StandardCopyOption.REPLACE_EXISTING);
+
+        resetPeakHeap();
+        long loadStart = System.nanoTime();
+        Monday monday = Monday.createWithoutLoading(dataFile.toString());
+        System.out.println(monday.loadTasks((bytesRead, totalBytes) -> { }));
+        long loadTime = System.nanoTime() - loadStart;
+
+        long commands = 0;
+        long replayStart = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(workload.resolve(WorkloadGenerator.COMMAND_FILE),
+                StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals("bye")) {
+                long start = System.nanoTime();
+                monday.getResponse(line);
+                COMMAND_TIME.recordSince(start);
+                if (++commands % PROGRESS_INTERVAL == 0) {
+                    System.out.printf("%d commands replayed%n", commands);
+                }
+            }
+        }
+        long replayTime = System.nanoTime() - replayStart;
+
+        System.out.printf("load %.1f ms, %d commands in %.1f s%n", loadTime / 1e6, commands, replayTime / 1e9);
+        if (commands > 0) {
+            System.out.printf("throughput %.0f commands/s%n", commands / (replayTime / 1e9));
+            System.out.printf("latency p50 %.3f ms  p90 %.3f ms  p99 %.3f ms  max %.3f ms%n",
+                    COMMAND_TIME.getPercentile(50) / 1e6, COMMAND_TIME.getPercentile(90) / 1e6,
+                    COMMAND_TIME.getPercentile(99) / 1e6, COMMAND_TIME.getMax() / 1e6);
+        }
+        System.out.printf("peak heap %.1f MB, %.1f MB written%n", peakHeap() / 1e6, Metrics.getBytesWritten() / 1e6);
+        System.out.println();
+        StringBuilder report = new StringBuilder();
+        Metrics.writeReport(report);
+        System.out.print(report);
+
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(workingDir);
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of the peak usage of every heap pool. The pools peak at different times,
+     * so this is an upper bound on the heap actually in use at once.
+     */
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
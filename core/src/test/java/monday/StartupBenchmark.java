@@ -0,0 +1,109 @@
+package monday;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the command line version takes from process start to its first "> " prompt,
+ * with and without a class-data-sharing archive.
+ * Each run starts a fresh JVM in an empty working directory, so no saved tasks are loaded.
+ *
+ * <p>Usage: {@code StartupBenchmark <cli jar> <archive> [runs]}, or {@code gradlew :core:benchmarkStartup}.</p>
+ */
+public class StartupBenchmark {
+    private static final int DEFAULT_RUNS = 20;
+    private static final byte[] PROMPT = "> ".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Runs the benchmark and prints the startup time of both configurations.
+     *
+     * @param args The CLI jar, the archive and optionally the number of runs per configuration
+     * @throws Exception If a process cannot be started or does not show a prompt
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: StartupBenchmark <cli jar> <archive> [runs]");
+            return;
+        }
+        String jar = args[0];
+        String archive = args[1];
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path workingDir = Files.createTempDirectory("monday-startup");
+
+        List<String> plain = List.of(java, "-jar", jar);
+        List<String> shared = List.of(java, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto", "-jar", jar);
+
+        // one untimed run each so that the jar and archive are in the page cache
+        timeToPrompt(plain, workingDir);
+        timeToPrompt(shared, workingDir);
+
+        long[] plainTimes = new long[runs];
+        long[] sharedTimes = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            plainTimes[i] = timeToPrompt(plain, workingDir);
+            sharedTimes[i] = timeToPrompt(shared, workingDir);
+        }
+        report("without archive", plainTimes);
+        report("with archive", sharedTimes);
+    }
+
+    /**
+     * Starts the CLI, waits for its first prompt and then ends it with "bye".
+     *
+     * @param command The command line to run
+     * @param workingDir The directory to run in
+     * @return The time from starting the process to reading the prompt, in nanoseconds
+     * @throws IOException If the process cannot be started or exits before prompting
+     * @throws InterruptedException If interrupted while waiting for the process to exit
+     */
+    private static long timeToPrompt(List<String> command, Path workingDir)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(new ArrayList<>(command))
+                .directory(workingDir.toFile())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            waitForPrompt(process.getInputStream());
+            long elapsed = System.nanoTime() - start;
+            try (OutputStream stdin = process.getOutputStream()) {
+                stdin.write("bye\n".getBytes(StandardCharsets.UTF_8));
+            }
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+            return elapsed;
+        } finally {
+            process.destroy();
+        }
+    }
+
+    private static void waitForPrompt(InputStream output) throws IOException {
+        int matched = 0;
+        int b;
+        while ((b = output.read()) != -1) {
+            matched = b == PROMPT[matched] ? matched + 1 : (b == PROMPT[0] ? 1 : 0);
+            if (matched == PROMPT.length) {
+                return;
+            }
+        }
+        throw new IOException("process exited before showing a prompt");
+    }
+
+    private static void report(String name, long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-16s median %6.1f ms  min %6.1f ms  max %6.1f ms  (%d runs)%n", name,
+                sorted[sorted.length / 2] / 1e6, sorted[0] / 1e6, sorted[sorted.length - 1] / 1e6, sorted.length);
+    }
+}
@@ -0,0 +1,236 @@
+package monday;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Writes a data file and a matching command script for {@link ReplayHarness}.
+ * Descriptions are drawn from a small vocabulary with a skewed distribution, so that some search terms
+ * match a large share of the tasks and others only a few. Task numbers in the script always refer to a
+ * task that exists at that point, and the same seed always produces the same files.
+ *
+ * <p>Usage: {@code WorkloadGenerator <directory> <tasks> <commands> [mix] [seed]}, where the mix gives
+ * relative weights such as {@code todo=25,deadline=10,event=5,find=30,mark=20,delete=10},
+ * or {@code gradlew :core:generateWorkload}.</p>
+ */
+public class WorkloadGenerator {
+    static final String DATA_FILE = "monday.txt";
+    static final String COMMAND_FILE = "commands.txt";
+
+    private static final String DEFAULT_MIX = "todo=25,deadline=10,event=5,find=30,mark=20,delete=10";
+    private static final String[] WORDS = {
+        "read", "book", "report", "call", "email", "review", "meeting", "groceries", "project", "plan",
+        "submit", "assignment", "lecture", "dentist", "gym", "laundry", "budget", "slides", "draft", "tutorial",
+        "invoice", "birthday", "flight", "interview", "garden", "library", "exam", "module", "tax", "rent",
+    };
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String[] STORED_PRIORITIES = {"HIGH", "MEDIUM", "MEDIUM", "LOW"};
+    private static final String[] COMMAND_PRIORITIES = {"high", "medium", "low"};
+
+    /**
+     * The kinds of commands the script is made of.
+     */
+    enum Kind {
+        TODO, DEADLINE, EVENT, FIND, MARK, DELETE
+    }
+
+    private final Random random;
+
+    private WorkloadGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates the files and prints where they were written.
+     *
+     * @param args The output directory, the number of tasks, the number of commands, and optionally the mix
+     *     and the random seed
+     * @throws IOException If a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: WorkloadGenerator <directory> <tasks> <commands> [mix] [seed]");
+            return;
+        }
+        Path directory = Path.of(args[0]);
+        long taskCount = Long.parseLong(args[1]);
+        long commandCount = Long.parseLong(args[2]);
+        Map<Kind, Integer> mix = parseMix(args.length > 3 ? args[3] : DEFAULT_MIX);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        Files.createDirectories(directory);
+        WorkloadGenerator generator = new WorkloadGenerator(seed);
+        generator.writeTasks(directory.resolve(DATA_FILE), taskCount);
+        generator.writeCommands(directory.resolve(COMMAND_FILE), taskCount, commandCount, mix);
+        System.out.printf("Wrote %d tasks and %d commands to %s%n", taskCount, commandCount,
+                directory.toAbsolutePath());
+    }
+
+    /**
+     * Parses a mix such as {@code todo=25,find=75}. Kinds that are not mentioned get no weight.
+     *
+     * @param mix The comma-separated kinds and weights
+     * @return The weight of every kind
+     * @throws IllegalArgumentException If a kind is unknown, a weight is negative or all weights are zero
+     */
+    static Map<Kind, Integer> parseMix(String mix) {
+        Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            weights.put(kind, 0);
+        }
+        int total = 0;
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected <kind>=<weight> but got: " + entry);
+            }
+            Kind kind = Kind.valueOf(parts[0].trim().toUpperCase());
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights cannot be negative: " + entry);
+            }
+            weights.put(kind, weight);
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive: " + mix);
+        }
+        return weights;
+    }
+
+    /**
+     * Writes tasks in the data file format: mostly todos, some deadlines and events, about a third done.
+     *
+     * @param file The data file to write
+     * @param count The number of tasks
+     * @throws IOException If the file cannot be written
+     */
+    private void writeTasks(Path file, long count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long i = 0; i < count; i++) {
+                String status = random.nextInt(3) == 0 ? "1" : "0";
+                String priority = STORED_PRIORITIES[random.nextInt(STORED_PRIORITIES.length)];
+                int type = random.nextInt(10);
+                if (type < 6) {
+                    writer.write(String.join(" | ", "T", status, description(), priority));
+                } else if (type < 9) {
+                    writer.write(String.join(" | ", "D", status, description(), date(), priority));
+                } else {
+                    LocalDateTime start = randomDateTime();
+                    writer.write(String.join(" | ", "E", status, description(), start.format(DATE_FORMAT),
+                            start.plusHours(1 + random.nextInt(3)).format(DATE_FORMAT), priority));
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Writes a command script with the given mix, ending with {@code bye}.
+     * Marks and deletions fall back to adding a todo while the list is empty.
+     *
+     * @param file The script to write
+     * @param taskCount The number of tasks in the data file
+     * @param count The number of commands
+     * @param mix The weight of every kind of command
+     * @throws IOException If the file cannot be written
+     */
+    private void writeCommands(Path file, long taskCount, long count, Map<Kind, Integer> mix) throws IOException {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long size = taskCount;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long i = 0; i < count; i++) {
+                Kind kind = pick(mix, totalWeight);
+                if (size == 0 && (kind == Kind.MARK || kind == Kind.DELETE)) {
+                    kind = Kind.TODO;
+                }
+                switch (kind) {
+                case TODO:
+                    writer.write("todo " + description() + priorityOption());
+                    size++;
+                    break;
+                case DEADLINE:
+                    writer.write("deadline " + description() + " /by " + date() + priorityOption());
+                    size++;
+                    break;
+                case EVENT:
+                    LocalDateTime start = randomDateTime();
+                    writer.write("event " + description() + " /from " + start.format(DATE_FORMAT)
+                            + " /to " + start.plusHours(1 + random.nextInt(3)).format(DATE_FORMAT));
+                    size++;
+                    break;
+                case FIND:
+                    writer.write("find " + word());
+                    break;
+                case MARK:
+                    writer.write("mark " + (1 + (long) (random.nextDouble() * size)));
+                    break;
+                case DELETE:
+                    writer.write("delete " + (1 + (long) (random.nextDouble() * size)));
+                    size--;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown kind: " + kind);
+                }
+                writer.newLine();
+            }
+            writer.write("bye");
+            writer.newLine();
+        }
+    }
+
+    private Kind pick(Map<Kind, Integer> mix, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Kind, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights do not add up to " + totalWeight);
+    }
+
+    /**
+     * Returns a word, favouring the start of the vocabulary: the first word is about thirty times
+     * as common as the last.
+     */
+    private String word() {
+        double skewed = random.nextDouble() * random.nextDouble();
+        return WORDS[(int) (skewed * WORDS.length)];
+    }
+
+    private String description() {
+        StringBuilder description = new StringBuilder(word());
+        int extraWords = 1 + random.nextInt(3);
+        for (int i = 0; i < extraWords; i++) {
+            description.append(' ').append(word());
+        }
+        if (random.nextInt(4) == 0) {
+            description.append(' ').append(random.nextInt(1000));
+        }
+        return description.toString();
+    }
+
+    private String priorityOption() {
+        return random.nextInt(4) == 0
+                ? " /priority " + COMMAND_PRIORITIES[random.nextInt(COMMAND_PRIORITIES.length)]
+                : "";
+    }
+
+    private LocalDateTime randomDateTime() {
+        return FIRST_DATE.plusMinutes(15L * random.nextInt(4 * 24 * 365));
+    }
+
+    private String date() {
+        return randomDateTime().format(DATE_FORMAT);
+    }
+}
@@ -0,0 +1,44 @@
+package monday.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for LatencyHistogram.
+ * Checks that durations land in the right buckets and that percentiles stay within a bucket's precision.
+ */
+public class LatencyHistogramTest {
+    /**
+     * Test that every value falls within the bounds of its own bucket.
+     */
+    @Test
+    public void testBucketOf_withinBounds() {
+        for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1));
+        }
+    }
+
+    /**
+     * Test that percentiles are within one eighth of the recorded values and never above the maximum.
+     */
+    @Test
+    public void testGetPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+
+        // Step 1: Record 1 to 1000 microseconds
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        // Step 2: Check the count, maximum and percentiles
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 9 / 8, "median was " + median);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+}
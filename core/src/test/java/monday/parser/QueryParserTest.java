@@ -0,0 +1,80 @@
+package monday.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import monday.exception.InvalidCommandFormatException;
+import monday.task.Deadline;
+import monday.task.Task;
+import monday.task.TaskFilter;
+import monday.task.Todo;
+
+/**
+ * Test class for QueryParser.
+ * This class checks that query expressions compile into filters that match the right tasks.
+ */
+public class QueryParserTest {
+
+    /**
+     * Test a conjunction of type, status, priority, due date and text conditions.
+     */
+    @Test
+    public void testCompile_conjunction() throws Exception {
+        TaskFilter filter = QueryParser.compile(
+                "type:deadline AND done:false AND priority>=medium AND due<2025-01-01 AND text:report");
+
+        // A pending, high priority deadline due before 2025 mentioning "report" should match
+        Deadline match = new Deadline("Write REPORT", "2024-12-31 1800", Task.Priority.HIGH);
+        assertTrue(filter.matches(match));
+
+        // Each condition on its own should be able to reject a task
+        assertFalse(filter.matches(new Todo("report", Task.Priority.HIGH)));
+        assertFalse(filter.matches(new Deadline("report", "2024-12-31 1800", Task.Priority.LOW)));
+        assertFalse(filter.matches(new Deadline("report", "2025-01-01 0900", Task.Priority.HIGH)));
+        assertFalse(filter.matches(new Deadline("essay", "2024-12-31 1800", Task.Priority.HIGH)));
+
+        match.markAsDone();
+        assertFalse(filter.matches(match));
+    }
+
+    /**
+     * Test OR, NOT, parentheses and bare words.
+     */
+    @Test
+    public void testCompile_orNotAndParentheses() throws Exception {
+        TaskFilter filter = QueryParser.compile("(type:todo OR priority:high) NOT book");
+
+        assertTrue(filter.matches(new Todo("buy milk")));
+        assertTrue(filter.matches(new Deadline("essay", "2024-12-31", Task.Priority.HIGH)));
+        assertFalse(filter.matches(new Todo("read book")));
+        assertFalse(filter.matches(new Deadline("essay", "2024-12-31", Task.Priority.LOW)));
+    }
+
+    /**
+     * Test that quoted values can contain spaces, including due dates with a time.
+     */
+    @Test
+    public void testCompile_quotedValues() throws Exception {
+        TaskFilter filter = QueryParser.compile("text:\"project report\" due>=\"2024-12-31 1200\"");
+
+        assertTrue(filter.matches(new Deadline("final project report", "2024-12-31 1800")));
+        assertFalse(filter.matches(new Deadline("final project report", "2024-12-31 0900")));
+        assertFalse(filter.matches(new Deadline("project", "2024-12-31 1800")));
+    }
+
+    /**
+     * Test that malformed queries are rejected.
+     */
+    @Test
+    public void testCompile_invalidQueries() {
+        assertThrows(InvalidCommandFormatException.class, () -> QueryParser.compile(""));
+        assertThrows(InvalidCommandFormatException.class, () -> QueryParser.compile("colour:red"));
+        assertThrows(InvalidCommandFormatException.class, () -> QueryParser.compile("type>todo"));
+        assertThrows(InvalidCommandFormatException.class, () -> QueryParser.compile("due<tomorrow"));
+        assertThrows(InvalidCommandFormatException.class, () -> QueryParser.compile("(done:true"));
+        assertThrows(InvalidCommandFormatException.class, () -> QueryParser.compile("done:true AND"));
+    }
+}
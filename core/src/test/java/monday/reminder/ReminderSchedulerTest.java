@@ -0,0 +1,161 @@
+package monday.reminder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import monday.exception.InvalidTaskNumberException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.Todo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for ReminderScheduler.
+ * Uses a clock that only moves when the test moves it.
+ */
+public class ReminderSchedulerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    /**
+     * A clock that stays at one instant until it is moved.
+     */
+    private static class TestClock extends Clock {
+        private Instant instant = NOW.toInstant(ZoneOffset.UTC);
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * Test that reminders follow additions, status changes and deletions at each lead time.
+     */
+    @Test
+    public void testReminders_followChanges() throws InvalidTaskNumberException {
+        TestClock clock = new TestClock();
+        TaskList taskList = new TaskList();
+        List<Reminder> shown = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(taskList,
+                List.of(Duration.ofMinutes(10), Duration.ofHours(1)), clock, shown::add);
+        scheduler.advance();
+
+        // Step 1: Add a todo, a deadline in two hours and an event in three
+        taskList.addTask(new Todo("no time"));
+        Deadline deadline = new Deadline("report", NOW.plusHours(2));
+        taskList.addTask(deadline);
+        taskList.addTask(new Event("meeting", NOW.plusHours(3), NOW.plusHours(4)));
+        assertEquals(4, scheduler.size());
+
+        // Step 2: An hour before the deadline, its first reminder is shown
+        clock.advance(Duration.ofHours(1));
+        scheduler.advance();
+        assertEquals(1, shown.size());
+        assertSame(deadline, shown.get(0).getTask());
+        assertEquals(Duration.ofHours(1), shown.get(0).getLeadTime());
+
+        // Step 3: Marking the deadline done cancels its second reminder; deleting the event cancels both of its
+        taskList.markTaskAsDone(2);
+        taskList.deleteTask(3);
+        assertEquals(0, scheduler.size());
+        clock.advance(Duration.ofHours(5));
+        scheduler.advance();
+        assertEquals(1, shown.size());
+        scheduler.close();
+    }
+
+    /**
+     * Test that a replaced list is scheduled on the next tick, showing only the latest reminder whose time
+     * has passed and none for tasks that are over.
+     */
+    @Test
+    public void testReminders_rebuiltAfterReplace() {
+        TestClock clock = new TestClock();
+        TaskList taskList = new TaskList();
+        List<Reminder> shown = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(taskList,
+                List.of(Duration.ofHours(1), Duration.ofMinutes(10)), clock, shown::add);
+        scheduler.advance();
+
+        // Step 1: Replace the list with one task due in five minutes and one already past
+        ArrayList<Task> loaded = new ArrayList<>();
+        loaded.add(new Deadline("soon", NOW.plusMinutes(5)));
+        loaded.add(new Deadline("past", NOW.minusMinutes(5)));
+        taskList.setTasks(loaded);
+        assertEquals(0, scheduler.size());
+
+        // Step 2: The next tick rebuilds the wheel and shows the ten-minute reminder straight away
+        scheduler.advance();
+        assertEquals(1, shown.size());
+        assertEquals(Duration.ofMinutes(10), shown.get(0).getLeadTime());
+        assertEquals(0, scheduler.size());
+        scheduler.close();
+    }
+
+    /**
+     * Test that a repeating deadline is reminded of once per occurrence, skipping a completed one.
+     */
+    @Test
+    public void testReminders_repeating() {
+        TestClock clock = new TestClock();
+        TaskList taskList = new TaskList();
+        List<Reminder> shown = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(taskList, List.of(Duration.ofMinutes(10)), clock,
+                shown::add);
+        scheduler.advance();
+
+        // Step 1: A daily deadline at 10:00 whose second occurrence is already done
+        Deadline deadline = new Deadline("stand-up notes", NOW.plusHours(1));
+        deadline.setRecurrence(Recurrence.fromStoredForm("day;" + NOW.toLocalDate().plusDays(1)));
+        taskList.addTask(deadline);
+
+        // Step 2: Three days later, the reminders of the first and third occurrences have been shown
+        for (int minute = 0; minute < 3 * 24 * 60; minute++) {
+            clock.advance(Duration.ofMinutes(1));
+            scheduler.advance();
+        }
+        assertEquals(2, shown.size());
+        assertEquals(NOW.plusHours(1), shown.get(0).getTime());
+        assertEquals(NOW.plusHours(1).plusDays(2), shown.get(1).getTime());
+        assertEquals(1, scheduler.size());
+        scheduler.close();
+    }
+
+    /**
+     * Test that lead times are parsed from the property format and that malformed ones are rejected.
+     */
+    @Test
+    public void testParseLeadTimes() {
+        assertEquals(List.of(Duration.ofDays(1), Duration.ofHours(2), Duration.ofMinutes(0)),
+                ReminderScheduler.parseLeadTimes("1d, 2h,0m"));
+        assertThrows(IllegalArgumentException.class, () -> ReminderScheduler.parseLeadTimes("soon"));
+    }
+}
@@ -0,0 +1,83 @@
+package monday.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for TimingWheel.
+ * Checks that timers expire on the right tick at every level of the wheel and that cancelled timers never do.
+ */
+public class TimingWheelTest {
+    /**
+     * Test that timers expire no earlier than their time and in order of expiry.
+     */
+    @Test
+    public void testAdvanceTo_expiresInOrder() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        wheel.schedule(5_000, "b");
+        wheel.schedule(2_500, "a");
+        wheel.schedule(7_200_000, "c");
+
+        // Step 1: The 2.5 s timer waits for the tick at 3 s
+        assertEquals(List.of(), wheel.advanceTo(2_999));
+        assertEquals(List.of("a"), wheel.advanceTo(3_000));
+
+        // Step 2: Moving far ahead expires the rest in order
+        assertEquals(List.of("b", "c"), wheel.advanceTo(10_000_000));
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Test that a cancelled timer is removed and does not expire.
+     */
+    @Test
+    public void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        TimingWheel.Timer<String> timer = wheel.schedule(100_000, "cancelled");
+        wheel.schedule(200_000, "kept");
+
+        assertTrue(wheel.cancel(timer));
+        assertFalse(timer.isScheduled());
+        assertFalse(wheel.cancel(timer));
+
+        assertEquals(List.of("kept"), wheel.advanceTo(300_000));
+    }
+
+    /**
+     * Test that random timers spread over the lower four levels expire on their own tick.
+     */
+    @Test
+    public void testAdvanceTo_randomTimes() {
+        long start = 1_700_000_000_000L;
+        TimingWheel<Long> wheel = new TimingWheel<>(1, start);
+        Random random = new Random(7);
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long delay = (long) Math.pow(2, random.nextDouble() * 22);
+            times.add(start + delay);
+            wheel.schedule(start + delay, start + delay);
+        }
+        times.sort(null);
+
+        // Step 1: Advance in uneven steps and check that each timer expires exactly when its time is reached
+        long now = start;
+        int expired = 0;
+        while (expired < times.size()) {
+            now += 1 + random.nextInt(1 << 14);
+            for (long time : wheel.advanceTo(now)) {
+                assertTrue(time <= now, "expired early: " + time);
+                assertEquals((long) times.get(expired), time);
+                expired++;
+            }
+            assertTrue(expired == times.size() || times.get(expired) > now, "missed a timer at " + now);
+        }
+        assertEquals(0, wheel.size());
+    }
+}
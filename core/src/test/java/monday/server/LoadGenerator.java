@@ -0,0 +1,132 @@
+package monday.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives many concurrent sessions against a running {@link MondayServer} and reports reply latency.
+ * All sessions connect first and then start sending commands at the same moment.
+ * Most commands only read the list; every tenth marks or unmarks the first task.
+ *
+ * <p>Usage: {@code LoadGenerator [port] [sessions] [commands per session]},
+ * or {@code gradlew :core:loadTest} against a server started with {@code gradlew :core:runServer}.</p>
+ */
+public class LoadGenerator {
+    private static final String[] READ_COMMANDS = {
+        "list /size 20", "find load", "query done:false AND text:load", "more",
+    };
+
+    /**
+     * Runs the load and prints throughput and latency percentiles.
+     *
+     * @param args Optionally the port, the number of sessions and the number of commands per session
+     * @throws Exception If the server cannot be reached
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : MondayServer.DEFAULT_PORT;
+        int sessionCount = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int commandsPerSession = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            // make sure there is a task for the mark and unmark commands to work on
+            send(socket, "todo load generator task");
+        }
+
+        long[][] latencies = new long[sessionCount][];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch connected = new CountDownLatch(sessionCount);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = MondayServer.newSessionExecutor();
+        for (int i = 0; i < sessionCount; i++) {
+            int session = i;
+            executor.execute(() -> {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                    socket.setTcpNoDelay(true);
+                    connected.countDown();
+                    start.await();
+                    latencies[session] = runSession(socket, session, commandsPerSession);
+                } catch (IOException | InterruptedException e) {
+                    connected.countDown();
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        connected.await();
+        long startTime = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        long elapsed = System.nanoTime() - startTime;
+
+        long[] all = Arrays.stream(latencies).filter(session -> session != null)
+                .flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%d sessions x %d commands, %d failed sessions%n",
+                sessionCount, commandsPerSession, failures.get());
+        if (all.length == 0) {
+            return;
+        }
+        System.out.printf("throughput %.0f commands/s%n", all.length / (elapsed / 1e9));
+        System.out.printf("latency p50 %.2f ms  p99 %.2f ms  max %.2f ms%n",
+                percentile(all, 50) / 1e6, percentile(all, 99) / 1e6, all[all.length - 1] / 1e6);
+    }
+
+    /**
+     * Sends a fixed mix of commands over one connection, one at a time.
+     *
+     * @param socket The connection to the server
+     * @param session The session number, used to vary the command mix
+     * @param commands The number of commands to send
+     * @return The latency of every command in nanoseconds
+     * @throws IOException If the connection fails
+     */
+    private static long[] runSession(Socket socket, int session, int commands) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        long[] latencies = new long[commands];
+        for (int i = 0; i < commands; i++) {
+            int step = session + i;
+            String command = step % 10 == 0
+                    ? (step % 20 == 0 ? "mark 1" : "unmark 1")
+                    : READ_COMMANDS[step % READ_COMMANDS.length];
+            long start = System.nanoTime();
+            writer.write(command);
+            writer.write('\n');
+            writer.flush();
+            if (MondayServer.readReply(reader) == null) {
+                throw new IOException("server closed the connection");
+            }
+            latencies[i] = System.nanoTime() - start;
+        }
+        writer.write("bye\n");
+        writer.flush();
+        return latencies;
+    }
+
+    private static void send(Socket socket, String command) throws IOException {
+        Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        writer.write(command + "\nbye\n");
+        writer.flush();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        MondayServer.readReply(reader);
+        MondayServer.readReply(reader);
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,96 @@
+package monday.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import monday.task.TaskList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for MondayClient.
+ * Checks when a command runs in the client's own process and when it is left to the server.
+ */
+public class MondayClientTest {
+    private Path socket;
+    private Path dataFile;
+
+    /**
+     * Creates socket and data file paths in a fresh temporary directory.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path directory = Files.createTempDirectory("monday-client");
+        socket = directory.resolve("monday.sock");
+        dataFile = directory.resolve("monday.txt");
+    }
+
+    /**
+     * Test that a running server receives the command and replies, and the client does not touch the data file.
+     */
+    @Test
+    public void testRunCommand_throughServer() throws IOException {
+        TaskList tasks = new TaskList();
+        try (MondayServer server = new MondayServer(tasks)) {
+            server.serveUnixSocket(socket);
+
+            String reply = MondayClient.runCommand("todo buy milk", socket, dataFile.toString());
+
+            assertTrue(reply.startsWith("Got it. I've added this task:"), reply);
+        }
+        assertEquals(1, tasks.size());
+        assertFalse(Files.exists(dataFile));
+    }
+
+    /**
+     * Test that a socket file with no server behind it makes the command run in this process.
+     */
+    @Test
+    public void testRunCommand_noServerRunsHere() throws IOException {
+        Files.createFile(socket);
+
+        String reply = MondayClient.runCommand("todo buy milk", socket, dataFile.toString());
+
+        assertTrue(reply.contains("buy milk"), reply);
+        assertTrue(Files.readString(dataFile).contains("buy milk"));
+    }
+
+    /**
+     * Test that a command is not run here again when the server closes the connection after receiving it.
+     */
+    @Test
+    public void testRunCommand_lostConnectionNotRunAgain() throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            Thread closer = new Thread(() -> {
+                try (SocketChannel channel = server.accept()) {
+                    new BufferedReader(new InputStreamReader(Channels.newInputStream(channel),
+                            StandardCharsets.UTF_8)).readLine();
+                } catch (IOException e) {
+                    // the client reports the closed connection either way
+                }
+            });
+            closer.start();
+
+            String reply = MondayClient.runCommand("todo buy milk", socket, dataFile.toString());
+            closer.join();
+
+            assertTrue(reply.startsWith("Lost the connection to the Monday server"), reply);
+            assertFalse(Files.exists(dataFile));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package monday.server;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+import monday.parser.Parser;
+import monday.storage.Storage;
+import monday.task.TaskList;
+import monday.task.Todo;
+import monday.ui.ListCursor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for MondayServer.
+ * Checks the line protocol, the replies a session gets for the commands it sends, tenant switching and how
+ * commands share a task list's lock.
+ */
+public class MondayServerTest {
+    /**
+     * Test that reply lines starting with '.' survive a round trip, including one that is just '.',
+     * and that the reader stops at the end of each reply.
+     */
+    @Test
+    public void testWriteReply_dotStuffing() throws IOException {
+        String reply = ".hidden\n.\nplain\n..two";
+        StringWriter written = new StringWriter();
+        MondayServer.writeReply(written, reply);
+        MondayServer.writeReply(written, "");
+        assertEquals("..hidden\n..\nplain\n...two\n.\n.\n", written.toString());
+
+        BufferedReader reader = new BufferedReader(new StringReader(written.toString()));
+        assertEquals(reply, MondayServer.readReply(reader));
+        assertEquals("", MondayServer.readReply(reader));
+        assertNull(MondayServer.readReply(reader));
+    }
+
+    /**
+     * Test a whole session over a TCP connection, ending with 'bye'.
+     */
+    @Test
+    public void testServe_overTcpSocket() throws Exception {
+        TaskList tasks = new TaskList();
+        try (MondayServer server = new MondayServer(tasks)) {
+            int port = server.bind(0);
+            Thread acceptor = new Thread(() -> {
+                try {
+                    server.acceptConnections();
+                } catch (IOException e) {
+                    // the test fails on the client side if no connection is accepted
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+                writer.write("todo a\nlist\nbye\n");
+                writer.flush();
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+                assertTrue(MondayServer.readReply(reader).startsWith("Got it. I've added this task:"));
+                assertTrue(MondayServer.readReply(reader).contains("1.[T][ ] (!) a"));
+                assertEquals("Bye. Hope to see you again soon!", MondayServer.readReply(reader));
+                assertNull(MondayServer.readReply(reader));
+            }
+        }
+        assertEquals(1, tasks.size());
+    }
+
+    /**
+     * Test that each session works on the tenant it switched to, and that invalid IDs and a server without
+     * a registry are reported.
+     */
+    @Test
+    public void testServe_tenantSwitching() throws IOException {
+        TaskListRegistry registry = new TaskListRegistry(Files.createTempDirectory("monday-tenants"), 2);
+        MondayServer server = new MondayServer(new TaskList(), null, registry);
+
+        List<String> replies = session(server, "tenant alice", "todo a", "tenant bob", "list",
+                "tenant alice", "list", "tenant", "tenant ../etc");
+
+        assertEquals("Switched to task list 'alice'.", replies.get(0));
+        assertEquals("Your task list is empty.", replies.get(3));
+        assertTrue(replies.get(5).contains("1.[T][ ] (!) a"), replies.get(5));
+        assertTrue(replies.get(6).startsWith("Current task list: alice\nLists in memory: 2 of 2"), replies.get(6));
+        assertEquals("Tenant IDs may only contain letters, digits, '-' and '_'.", replies.get(7));
+        assertEquals(List.of("This server only hosts a single task list."),
+                session(new MondayServer(new TaskList()), "tenant alice"));
+    }
+
+    /**
+     * Test that commands that only read a list run while another reader holds its lock, and that commands
+     * that change it wait until the lock is free.
+     */
+    @Test
+    public void testExecute_readersShareWritersWait() throws Exception {
+        TaskListRegistry registry = new TaskListRegistry(Files.createTempDirectory("monday-tenants"), 2);
+        registry.get("alice").addTask(new Todo("a"));
+        MondayServer server = new MondayServer(new TaskList(), null, registry);
+        Lock readLock = registry.acquire("alice").getLock().readLock();
+        ExecutorService executor = Executors.newCachedThreadPool();
+        readLock.lock();
+        try {
+            // Step 1: A listing runs alongside the reader holding the lock
+            Future<String> list = executor.submit(() -> server.execute(Parser.parse("list"), "alice",
+                    new ListCursor()));
+            assertTrue(list.get(5, TimeUnit.SECONDS).contains("1.[T][ ] (!) a"));
+
+            // Step 2: Adding a task waits for the reader to finish
+            Future<String> add = executor.submit(() -> server.execute(Parser.parse("todo b"), "alice",
+                    new ListCursor()));
+            assertThrows(TimeoutException.class, () -> add.get(200, TimeUnit.MILLISECONDS));
+            readLock.unlock();
+            assertTrue(add.get(5, TimeUnit.SECONDS).startsWith("Got it."));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, registry.get("alice").size());
+    }
+
+    /**
+     * Test that a command failing with an unexpected error gets an error reply and the session goes on.
+     */
+    @Test
+    public void testServe_unexpectedErrorKeepsSession() throws IOException {
+        MondayServer server = new MondayServer(new TaskList());
+
+        List<String> replies = session(server, "todo a", "mark abc", "list");
+
+        assertEquals(3, replies.size());
+        assertTrue(replies.get(1).startsWith("Sorry, that command could not be run"), replies.get(1));
+        assertTrue(replies.get(2).contains("1.[T][ ] (!) a"), replies.get(2));
+    }
+
+    /**
+     * Test that a warning from saving the list is sent to the client as part of the reply.
+     */
+    @Test
+    public void testServe_saveWarningInReply() throws IOException {
+        // a directory cannot be written as a data file, so every save fails
+        Storage storage = new Storage(Files.createTempDirectory("monday-server").toString());
+        MondayServer server = new MondayServer(new TaskList(storage), storage, null);
+
+        List<String> replies = session(server, "todo a");
+
+        assertTrue(replies.get(0).contains("Warning: Could not save tasks to file"), replies.get(0));
+    }
+
+    /**
+     * Runs a session with the given command lines and returns the replies.
+     */
+    static List<String> session(MondayServer server, String... lines) throws IOException {
+        byte[] input = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        server.serve(new ByteArrayInputStream(input), output);
+        BufferedReader reader = new BufferedReader(new StringReader(output.toString(StandardCharsets.UTF_8)));
+        List<String> replies = new ArrayList<>();
+        String reply;
+        while ((reply = MondayServer.readReply(reader)) != null) {
+            replies.add(reply);
+        }
+        return replies;
+    }
+}
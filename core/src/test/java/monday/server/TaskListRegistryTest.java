@@ -0,0 +1,84 @@
+package monday.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import monday.exception.InvalidTaskNumberException;
+import monday.exception.TaskLoadingException;
+import monday.task.TaskList;
+import monday.task.Todo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for TaskListRegistry.
+ * Checks that lists are cached, evicted in least recently used order, and reloaded from disk.
+ */
+public class TaskListRegistryTest {
+    private Path dataDirectory;
+    private TaskListRegistry registry;
+
+    /**
+     * Creates a registry that keeps two lists in memory, backed by a fresh temporary directory.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("monday-tenants");
+        registry = new TaskListRegistry(dataDirectory, 2);
+    }
+
+    /**
+     * Test that looking up the same tenant twice returns the cached list and counts a hit.
+     */
+    @Test
+    public void testGet_cachedList() throws TaskLoadingException {
+        TaskList first = registry.get("alice");
+        TaskList second = registry.get("alice");
+
+        assertSame(first, second);
+        assertEquals(1, registry.getMisses());
+        assertEquals(1, registry.getHits());
+    }
+
+    /**
+     * Test that the least recently used list is evicted and its tasks are read back from disk.
+     */
+    @Test
+    public void testGet_evictsLeastRecentlyUsed() throws TaskLoadingException, InvalidTaskNumberException {
+        // Step 1: Load alice and bob, then use alice again so that bob is the least recently used
+        TaskList alice = registry.get("alice");
+        alice.addTask(new Todo("alice's task"));
+        TaskList bob = registry.get("bob");
+        bob.addTask(new Todo("bob's task"));
+        registry.get("alice");
+
+        // Step 2: Loading carol evicts bob
+        registry.get("carol");
+        assertEquals(1, registry.getEvictions());
+        assertEquals(2, registry.size());
+        assertSame(alice, registry.get("alice"));
+
+        // Step 3: Bob's list is loaded again from his file
+        TaskList reloaded = registry.get("bob");
+        assertNotSame(bob, reloaded);
+        assertEquals(1, reloaded.size());
+        assertEquals("bob's task", reloaded.getTask(1).getDescription());
+    }
+
+    /**
+     * Test that tenant IDs that could escape the data directory are rejected.
+     */
+    @Test
+    public void testGet_invalidTenantId() {
+        assertFalse(TaskListRegistry.isValidTenantId("../alice"));
+        assertThrows(IllegalArgumentException.class, () -> registry.get("../alice"));
+    }
+}
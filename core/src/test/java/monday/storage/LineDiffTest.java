@@ -0,0 +1,100 @@
+package monday.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for LineDiff.
+ * Checks that changed blocks are found and that changes from two programs are merged correctly.
+ */
+public class LineDiffTest {
+    /**
+     * Test that equal versions have no change.
+     */
+    @Test
+    public void testBetween_equal() {
+        assertNull(LineDiff.between(LineDiff.hashAll(List.of("a", "b")), List.of("a", "b")));
+    }
+
+    /**
+     * Test that a replaced line in the middle is found without the common lines around it.
+     */
+    @Test
+    public void testBetween_replacedLine() {
+        LineDiff diff = LineDiff.between(LineDiff.hashAll(List.of("a", "b", "c")), List.of("a", "x", "y", "c"));
+
+        assertEquals(1, diff.getStart());
+        assertEquals(1, diff.getRemovedCount());
+        assertEquals(List.of("x", "y"), diff.getInserted());
+    }
+
+    /**
+     * Test that a repeated line is not counted twice by the common start and end.
+     */
+    @Test
+    public void testBetween_repeatedLines() {
+        LineDiff diff = LineDiff.between(LineDiff.hashAll(List.of("a", "a")), List.of("a", "a", "a"));
+
+        assertEquals(2, diff.getStart());
+        assertEquals(0, diff.getRemovedCount());
+        assertEquals(List.of("a"), diff.getInserted());
+    }
+
+    /**
+     * Test that two changes to different lines can both be applied.
+     */
+    @Test
+    public void testMerge_separateChanges() {
+        // Step 1: One program deletes the first line, the other appends a line
+        List<String> base = List.of("a", "b", "c");
+        LineDiff external = LineDiff.between(LineDiff.hashAll(base), List.of("b", "c"));
+        LineDiff local = LineDiff.between(LineDiff.hashAll(base), List.of("a", "b", "c", "d"));
+        assertFalse(external.conflictsWith(local));
+
+        // Step 2: Apply the local change, then the external one moved to match
+        List<String> merged = new ArrayList<>(base);
+        local.applyTo(merged);
+        external.after(local).applyTo(merged);
+        assertEquals(List.of("b", "c", "d"), merged);
+
+        // Step 3: Applying both changes to the hashes gives the hashes of the merged lines
+        long[] hashes = external.after(local).applyTo(local.applyTo(LineDiff.hashAll(base)));
+        assertTrue(Arrays.equals(LineDiff.hashAll(merged), hashes));
+    }
+
+    /**
+     * Test that two programs appending a line each keep both lines, the external one first.
+     */
+    @Test
+    public void testMerge_twoAppends() {
+        List<String> base = List.of("a", "b");
+        LineDiff external = LineDiff.between(LineDiff.hashAll(base), List.of("a", "b", "x"));
+        LineDiff local = LineDiff.between(LineDiff.hashAll(base), List.of("a", "b", "y"));
+        assertFalse(external.conflictsWith(local));
+
+        List<String> merged = new ArrayList<>(base);
+        local.applyTo(merged);
+        external.after(local).applyTo(merged);
+        assertEquals(List.of("a", "b", "x", "y"), merged);
+    }
+
+    /**
+     * Test that two changes to the same line conflict.
+     */
+    @Test
+    public void testConflictsWith_sameLine() {
+        List<String> base = List.of("a", "b", "c");
+        LineDiff external = LineDiff.between(LineDiff.hashAll(base), List.of("a", "x", "c"));
+        LineDiff local = LineDiff.between(LineDiff.hashAll(base), List.of("a", "y", "c"));
+
+        assertTrue(external.conflictsWith(local));
+    }
+}
@@ -0,0 +1,227 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import monday.task.Deadline;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.Todo;
+import monday.ui.StringBuilderSink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Storage.
+ * Checks how the data file is read back into tasks, how changes made by other programs are found and merged,
+ * and how several Storages share one file.
+ */
+public class StorageTest {
+    private Path file;
+
+    /**
+     * Creates a data file path in a temporary directory.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("monday-storage").resolve("monday.txt");
+    }
+
+    /**
+     * Test that the done flag completes a one-off task but does not complete an occurrence of a repeating one,
+     * whose completed occurrences are stored in its recurrence.
+     */
+    @Test
+    public void testLoad_doneFlagOfRepeatingTask() throws Exception {
+        write("D | 1 | report | 2025-03-03 0900 | HIGH",
+                "D | 1 | review | 2025-03-03 0900 | HIGH | week;2025-03-03");
+
+        List<Task> tasks = new Storage(file.toString()).load();
+
+        assertTrue(tasks.get(0).isDone());
+        Deadline review = (Deadline) tasks.get(1);
+        assertFalse(review.isDone());
+        assertEquals("week;2025-03-03", review.getRecurrence().toStoredForm());
+    }
+
+    /**
+     * Test that an edit by another program is found even when it keeps the file's size and modification time,
+     * and that a file that was only touched gives no change.
+     */
+    @Test
+    public void testReadExternalChanges_sameSizeAndTime() throws Exception {
+        write("T | 0 | milk | LOW", "T | 0 | eggs | LOW");
+        Storage storage = new Storage(file.toString());
+        storage.load();
+        FileTime modified = Files.getLastModifiedTime(file);
+
+        // Step 1: Touching the file changes nothing
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 5000));
+        assertNull(storage.readExternalChanges());
+
+        // Step 2: An edit of the same length with the old modification time is still found
+        modified = Files.getLastModifiedTime(file);
+        write("T | 0 | milk | LOW", "T | 0 | jams | LOW");
+        Files.setLastModifiedTime(file, modified);
+        Storage.ExternalChange change = storage.readExternalChanges();
+        assertEquals(1, change.getIndex());
+        assertEquals(1, change.getRemovedCount());
+        assertEquals("jams", change.getAddedTasks().get(0).getDescription());
+        assertNull(storage.readExternalChanges());
+    }
+
+    /**
+     * Test that once a file's content has been confirmed well after its modification time, it is not read
+     * again while its size and modification time stay the same, and that other edits are still found.
+     */
+    @Test
+    public void testReadExternalChanges_settledFileNotRead() throws Exception {
+        write("T | 0 | milk | LOW", "T | 0 | eggs | LOW");
+        FileTime modified = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(file, modified);
+        Storage storage = new Storage(file.toString());
+        storage.load();
+
+        // Step 1: The first check reads the file and confirms it
+        assertNull(storage.readExternalChanges());
+
+        // Step 2: Later checks trust the size and modification time, so a forged one is not noticed
+        write("T | 0 | milk | LOW", "T | 0 | jams | LOW");
+        Files.setLastModifiedTime(file, modified);
+        assertNull(storage.readExternalChanges());
+
+        // Step 3: A real edit changes the modification time and is found
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 1000));
+        assertEquals("jams", storage.readExternalChanges().getAddedTasks().get(0).getDescription());
+    }
+
+    /**
+     * Test that a reload replaces only the tasks on the changed lines, counting past lines that hold no task.
+     */
+    @Test
+    public void testReloadExternalChanges_replacesChangedTasks() throws Exception {
+        write("T | 0 | milk | LOW", "not a task", "T | 0 | eggs | LOW", "T | 0 | bread | LOW");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+
+        write("T | 0 | milk | LOW", "not a task", "T | 0 | jam | LOW", "T | 0 | butter | LOW", "T | 0 | bread | LOW");
+
+        assertTrue(taskList.reloadExternalChanges());
+        assertEquals(List.of("milk", "jam", "butter", "bread"), descriptions(taskList));
+        assertFalse(taskList.reloadExternalChanges());
+    }
+
+    /**
+     * Test that saving keeps another program's change to other lines, both in the file and in the list.
+     */
+    @Test
+    public void testSave_mergesSeparateExternalChange() throws Exception {
+        write("T | 0 | milk | LOW", "T | 0 | eggs | LOW", "T | 0 | bread | LOW");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+
+        // Step 1: Another program deletes the first task, then this list adds one at the end
+        write("T | 0 | eggs | LOW", "T | 0 | bread | LOW");
+        taskList.addTask(new Todo("jam", Task.Priority.LOW));
+
+        // Step 2: Both changes are in the list and in the file
+        assertEquals(List.of("eggs", "bread", "jam"), descriptions(taskList));
+        assertEquals(List.of("T | 0 | eggs | LOW", "T | 0 | bread | LOW", "T | 0 | jam | LOW"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that when both programs append a task, both are kept in the list and in the file, the other
+     * program's first.
+     */
+    @Test
+    public void testSave_mergesConcurrentAppends() throws Exception {
+        write("T | 0 | milk | LOW");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+
+        StringBuilderSink warnings = new StringBuilderSink();
+        storage.setWarningSink(warnings);
+        write("T | 0 | milk | LOW", "T | 0 | eggs | LOW");
+        taskList.addTask(new Todo("jam", Task.Priority.LOW));
+
+        assertEquals("", warnings.toString());
+        assertEquals(List.of("milk", "eggs", "jam"), descriptions(taskList));
+        assertEquals(List.of("T | 0 | milk | LOW", "T | 0 | eggs | LOW", "T | 0 | jam | LOW"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that when both programs change the same line, the tasks being saved win and a warning is written
+     * to the warning sink.
+     */
+    @Test
+    public void testSave_conflictingExternalChange() throws Exception {
+        write("T | 0 | milk | LOW", "T | 0 | eggs | LOW");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load(), storage);
+
+        StringBuilderSink warnings = new StringBuilderSink();
+        storage.setWarningSink(warnings);
+        write("T | 0 | milk | LOW", "T | 0 | jam | LOW");
+        taskList.markTaskAsDone(2);
+
+        assertTrue(warnings.toString().contains("was also changed by another program"));
+
+        assertEquals(List.of("milk", "eggs"), descriptions(taskList));
+        assertEquals(List.of("T | 0 | milk | LOW", "T | 1 | eggs | LOW"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that two Storages for the same file in one program take turns instead of failing to lock it.
+     */
+    @Test
+    public void testSave_sameFileFromTwoStorages() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Storage storage = new Storage(file.toString());
+            ArrayList<Task> tasks = new ArrayList<>(List.of(new Todo("task " + i)));
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 200; j++) {
+                    storage.save(tasks);
+                    storage.readExternalChanges();
+                }
+            });
+            thread.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(1, new Storage(file.toString()).load().size());
+    }
+
+    private static List<String> descriptions(TaskList taskList) {
+        List<String> descriptions = new ArrayList<>();
+        for (Task task : taskList) {
+            descriptions.add(task.getDescription());
+        }
+        return descriptions;
+    }
+
+    private void write(String... lines) throws IOException {
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+    }
+}
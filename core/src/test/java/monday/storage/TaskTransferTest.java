@@ -0,0 +1,184 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import monday.exception.TaskTransferException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Recurrence;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.Todo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for TaskExporter and TaskImporter.
+ * Checks that tasks survive a round trip through both formats and that malformed files add nothing.
+ */
+public class TaskTransferTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    private Path directory;
+    private List<Task> tasks;
+
+    /**
+     * Creates a temporary directory and one task of each type, including awkward descriptions.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("monday-transfer");
+        Deadline report = new Deadline("report, \"final\" draft", MONDAY, Task.Priority.HIGH);
+        report.markAsDone();
+        tasks = List.of(
+                new Todo("buy milk", Task.Priority.LOW),
+                report,
+                new Event("offsite\nday two\\three", MONDAY, MONDAY.plusHours(8)));
+    }
+
+    /**
+     * Test that exporting to CSV and importing again gives the same tasks.
+     */
+    @Test
+    public void testRoundTrip_csv() throws TaskTransferException {
+        assertRoundTrip("tasks.csv", TaskExporter.Format.CSV);
+    }
+
+    /**
+     * Test that exporting to JSON and importing again gives the same tasks.
+     */
+    @Test
+    public void testRoundTrip_json() throws TaskTransferException {
+        assertRoundTrip("tasks.json", TaskExporter.Format.JSON);
+    }
+
+    /**
+     * Test that a repeating deadline and a repeating event keep their recurrence and completed occurrences
+     * through a round trip in either format, and that the first occurrence is not marked as done.
+     */
+    @Test
+    public void testRoundTrip_repeatingTasks() throws TaskTransferException {
+        Deadline review = new Deadline("weekly review", MONDAY, Task.Priority.HIGH);
+        review.setRecurrence(new Recurrence(Recurrence.Frequency.WEEK));
+        review.getRecurrence().completeCurrent(MONDAY, MONDAY.toLocalDate());
+        Event club = new Event("book club", MONDAY, MONDAY.plusHours(2));
+        club.setRecurrence(new Recurrence(Recurrence.Frequency.MONTH));
+        tasks = List.of(review, club);
+
+        for (TaskExporter.Format format : TaskExporter.Format.values()) {
+            String file = directory.resolve("repeating." + format.name().toLowerCase()).toString();
+            TaskExporter.export(tasks, file, format);
+            TaskList taskList = new TaskList();
+            TaskImporter.importTasks(file, taskList);
+
+            Deadline importedReview = (Deadline) taskList.slice(0, 1).get(0);
+            Event importedClub = (Event) taskList.slice(1, 2).get(0);
+            assertEquals(MONDAY, importedReview.getDueDateTime());
+            assertEquals("week;2025-03-03", importedReview.getRecurrence().toStoredForm());
+            assertFalse(importedReview.isDone());
+            assertEquals(MONDAY.plusHours(2), importedClub.getEndDateTime());
+            assertEquals("month", importedClub.getRecurrence().toStoredForm());
+            assertEquals(club.toString(), importedClub.toString());
+        }
+    }
+
+    /**
+     * Test that quoted CSV fields keep their commas, doubled quotes and line breaks, and that records
+     * that are not tasks are skipped.
+     */
+    @Test
+    public void testImport_quotedCsvFields() throws IOException, TaskTransferException {
+        Path file = write("quoted.csv", TaskExporter.CSV_HEADER + "\n"
+                + "todo,false,medium,\"a, b and \"\"c\"\"\nnext line\",,\r\n"
+                + "reminder,false,medium,not a task,,\n"
+                + "deadline,true,low,no date,,\n");
+        TaskList taskList = new TaskList();
+
+        TaskImporter.Result result = TaskImporter.importTasks(file.toString(), taskList);
+
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getSkipped());
+        assertEquals("a, b and \"c\"\nnext line", taskList.getLastTask().getDescription());
+    }
+
+    /**
+     * Test that a file that is malformed after many valid records leaves the list unchanged.
+     */
+    @Test
+    public void testImport_malformedAddsNothing() throws IOException {
+        StringBuilder csv = new StringBuilder(TaskExporter.CSV_HEADER).append('\n');
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < TaskImporter.BATCH_SIZE * 2 + 10; i++) {
+            csv.append("todo,false,medium,task ").append(i).append(",,\n");
+            json.append("{\"type\":\"todo\",\"description\":\"task ").append(i).append("\"},");
+        }
+        csv.append("todo,false,medium,\"never closed,,\n");
+        json.append("{\"type\":\"todo\",\"description\":{\"nested\":1}}]");
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Todo("existing"));
+
+        assertThrows(TaskTransferException.class,
+                () -> TaskImporter.importTasks(write("bad.csv", csv.toString()).toString(), taskList));
+        assertThrows(TaskTransferException.class,
+                () -> TaskImporter.importTasks(write("bad.json", json.toString()).toString(), taskList));
+        assertThrows(TaskTransferException.class,
+                () -> TaskImporter.importTasks(write("truncated.json", "[{\"type\":\"todo\"").toString(), taskList));
+        assertThrows(TaskTransferException.class,
+                () -> TaskImporter.importTasks(directory.resolve("missing.csv").toString(), taskList));
+        assertEquals(1, taskList.size());
+    }
+
+    /**
+     * Test that an import spanning several batches is undone and redone as a single change.
+     */
+    @Test
+    public void testImport_undoneAsOneChange() throws IOException, TaskTransferException {
+        StringBuilder csv = new StringBuilder(TaskExporter.CSV_HEADER).append('\n');
+        int count = TaskImporter.BATCH_SIZE * 2 + 500;
+        for (int i = 0; i < count; i++) {
+            csv.append("todo,false,medium,task ").append(i).append(",,\n");
+        }
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Todo("existing"));
+
+        TaskImporter.importTasks(write("many.csv", csv.toString()).toString(), taskList);
+        assertEquals(count + 1, taskList.size());
+
+        // Step 1: One undo removes every imported task and keeps the earlier one
+        assertEquals(1, taskList.undo(1));
+        assertEquals(1, taskList.size());
+
+        // Step 2: One redo brings them all back in order
+        assertEquals(1, taskList.redo(1));
+        assertEquals(count + 1, taskList.size());
+        assertEquals("task " + (count - 1), taskList.getLastTask().getDescription());
+    }
+
+    private void assertRoundTrip(String fileName, TaskExporter.Format format) throws TaskTransferException {
+        String file = directory.resolve(fileName).toString();
+        assertEquals(tasks.size(), TaskExporter.export(tasks, file, format));
+
+        TaskList taskList = new TaskList();
+        TaskImporter.Result result = TaskImporter.importTasks(file, taskList);
+
+        assertEquals(tasks.size(), result.getImported());
+        assertEquals(0, result.getSkipped());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toString(), taskList.slice(i, i + 1).get(0).toString());
+        }
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(directory.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
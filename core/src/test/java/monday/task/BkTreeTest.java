@@ -0,0 +1,78 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for BkTree.
+ * Compares searches against checking the distance to every word.
+ */
+public class BkTreeTest {
+    /**
+     * Test the edit distance of a few pairs of words.
+     */
+    @Test
+    public void testDistance() {
+        assertEquals(0, BkTree.distance("book", "book"));
+        assertEquals(1, BkTree.distance("grocerys", "grocery"));
+        assertEquals(2, BkTree.distance("recieve", "receive"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(4, BkTree.distance("", "gym!"));
+    }
+
+    /**
+     * Test that searches find exactly the words within the distance, also after many words were removed.
+     */
+    @Test
+    public void testSearch_matchesBruteForce() {
+        Random random = new Random(7);
+        BkTree tree = new BkTree();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            if (!words.contains(word)) {
+                words.add(word);
+                tree.add(word);
+            }
+        }
+
+        // Step 1: Remove most of the words, which rebuilds the tree on the way
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(tree.remove(words.remove(words.size() - 1)));
+        }
+        assertFalse(tree.remove("not a word"));
+        assertEquals(words.size(), tree.size());
+
+        // Step 2: Every search returns the same words as comparing the term with each word
+        for (int i = 0; i < 200; i++) {
+            String term = randomWord(random);
+            int maxDistance = i % 3;
+            TreeSet<String> expected = new TreeSet<>();
+            for (String word : words) {
+                if (BkTree.distance(term, word) <= maxDistance) {
+                    expected.add(word);
+                }
+            }
+            TreeSet<String> actual = new TreeSet<>();
+            tree.search(term, maxDistance, (word, distance) -> actual.add(word));
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+}
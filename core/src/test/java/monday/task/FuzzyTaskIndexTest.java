@@ -0,0 +1,76 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for FuzzyTaskIndex.
+ * Checks which tasks a search finds, and that the index follows changes to the list.
+ */
+public class FuzzyTaskIndexTest {
+    private TaskList taskList;
+    private Todo groceries;
+    private Todo laundry;
+    private Todo cake;
+
+    /**
+     * Creates a list of three todos, two of which mention groceries.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList();
+        groceries = new Todo("buy groceries");
+        laundry = new Todo("do the laundry");
+        cake = new Todo("bake a cake with groceries");
+        taskList.addTasks(groceries, laundry, cake);
+    }
+
+    /**
+     * Test that every word of the term must be close to a word of the description, and that short words
+     * must match exactly.
+     */
+    @Test
+    public void testFind_multiWordTerm() {
+        assertEquals(List.of(groceries, cake), taskList.findTasksFuzzy("grocerys"));
+        assertEquals(List.of(cake), taskList.findTasksFuzzy("grocerys cakes"));
+        assertEquals(List.of(), taskList.findTasksFuzzy("grocerys laundry"));
+        assertEquals(List.of(), taskList.findTasksFuzzy("bo"));
+    }
+
+    /**
+     * Test that deleted tasks are no longer found, and that undoing the delete finds them again in list order.
+     */
+    @Test
+    public void testFind_followsRemovalAndUndo() throws Exception {
+        assertEquals(List.of(groceries, cake), taskList.findTasksFuzzy("groceries"));
+
+        // Step 1: Deleting the first task
+        taskList.deleteTask(1);
+        assertEquals(List.of(cake), taskList.findTasksFuzzy("groceries"));
+        assertEquals(List.of(), taskList.findTasksFuzzy("buy"));
+
+        // Step 2: Undoing puts it back before the cake, and the results follow list order
+        taskList.undo(1);
+        assertEquals(List.of(groceries, cake), taskList.findTasksFuzzy("groceries"));
+    }
+
+    /**
+     * Test that the index is built again from the new tasks after the list is replaced.
+     */
+    @Test
+    public void testFind_rebuiltAfterReplace() {
+        assertEquals(List.of(laundry), taskList.findTasksFuzzy("laundry"));
+
+        Todo bills = new Todo("pay bills");
+        taskList.setTasks(new ArrayList<>(List.of(bills, new Todo("laundry day"))));
+
+        assertEquals(List.of(bills), taskList.findTasksFuzzy("bils"));
+        assertEquals("laundry day", taskList.findTasksFuzzy("laundry").get(0).getDescription());
+        assertEquals(List.of(), taskList.findTasksFuzzy("groceries"));
+    }
+}
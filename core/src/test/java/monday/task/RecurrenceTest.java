@@ -0,0 +1,84 @@
+package monday.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for Recurrence.
+ * Checks that occurrences are computed from the first date and that completed occurrences are skipped.
+ */
+public class RecurrenceTest {
+    private static final LocalDateTime JAN_31 = LocalDateTime.of(2025, 1, 31, 9, 0);
+
+    /**
+     * Test that a monthly series keeps to its day of the month after a shorter month.
+     */
+    @Test
+    public void testNextPending_monthly() {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.MONTH);
+
+        assertEquals(LocalDateTime.of(2025, 2, 28, 9, 0),
+                recurrence.nextPending(JAN_31, LocalDateTime.of(2025, 2, 1, 0, 0)));
+        assertEquals(LocalDateTime.of(2025, 3, 31, 9, 0),
+                recurrence.nextPending(JAN_31, LocalDateTime.of(2025, 2, 28, 9, 1)));
+        assertEquals(JAN_31, recurrence.nextPending(JAN_31, LocalDateTime.of(2020, 1, 1, 0, 0)));
+    }
+
+    /**
+     * Test that completing the current occurrence moves on to the next one, and reopening moves back.
+     */
+    @Test
+    public void testCompleteCurrent_andReopen() {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.DAY);
+        LocalDate today = LocalDate.of(2025, 6, 10);
+
+        // Step 1: Today's occurrence is current even though earlier ones were never completed
+        assertEquals(LocalDateTime.of(2025, 6, 10, 9, 0), recurrence.completeCurrent(JAN_31, today));
+        assertEquals(LocalDateTime.of(2025, 6, 11, 9, 0), recurrence.current(JAN_31, today));
+
+        // Step 2: Reopening makes today's occurrence current again
+        recurrence.reopenLatest();
+        assertEquals(LocalDateTime.of(2025, 6, 10, 9, 0), recurrence.current(JAN_31, today));
+    }
+
+    /**
+     * Test that the occurrences in a window are generated without the completed ones.
+     */
+    @Test
+    public void testPendingBetween() {
+        Recurrence recurrence = Recurrence.fromStoredForm("week;2025-02-14");
+        LocalDateTime first = LocalDateTime.of(2025, 2, 7, 18, 0);
+
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        for (LocalDateTime occurrence : recurrence.pendingBetween(first,
+                LocalDateTime.of(2025, 2, 8, 0, 0), LocalDateTime.of(2025, 3, 1, 0, 0))) {
+            occurrences.add(occurrence);
+        }
+
+        assertEquals(List.of(LocalDateTime.of(2025, 2, 21, 18, 0), LocalDateTime.of(2025, 2, 28, 18, 0)),
+                occurrences);
+    }
+
+    /**
+     * Test that the stored form lists only the frequency and the completed dates, and reads back the same.
+     */
+    @Test
+    public void testStoredForm() {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.WEEK);
+        assertEquals("week", recurrence.toStoredForm());
+
+        recurrence.completeCurrent(JAN_31, LocalDate.of(2025, 2, 1));
+        recurrence.completeCurrent(JAN_31, LocalDate.of(2025, 2, 1));
+        assertEquals("week;2025-02-07,2025-02-14", recurrence.toStoredForm());
+        assertEquals(recurrence.toStoredForm(), Recurrence.fromStoredForm(recurrence.toStoredForm()).toStoredForm());
+
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.fromStoredForm("yearly"));
+    }
+}
@@ -0,0 +1,161 @@
+package monday.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for SortedTaskViews.
+ * Checks the sorted orders and that they stay correct as the task list changes.
+ */
+public class SortedTaskViewsTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    private TaskList taskList;
+    private Todo laundry;
+    private Deadline report;
+    private Event meeting;
+
+    /**
+     * Creates a list with a todo, a deadline and an event whose keys are all in different orders.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList();
+        laundry = new Todo("laundry", Task.Priority.HIGH);
+        report = new Deadline("Report", MONDAY.plusDays(2), Task.Priority.LOW);
+        meeting = new Event("meeting", MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(1));
+        taskList.addTasks(laundry, report, meeting);
+    }
+
+    /**
+     * Test that each key gives its own order, ignoring case for descriptions and putting todos last by due date.
+     */
+    @Test
+    public void testSortedBy_eachKey() {
+        assertEquals(List.of(meeting, report, laundry), sorted(SortedTaskViews.SortKey.DUE));
+        assertEquals(List.of(laundry, meeting, report), sorted(SortedTaskViews.SortKey.PRIORITY));
+        assertEquals(List.of(laundry, meeting, report), sorted(SortedTaskViews.SortKey.DESCRIPTION));
+        assertEquals(List.of(laundry, report, meeting), sorted(SortedTaskViews.SortKey.TYPE));
+    }
+
+    /**
+     * Test that a built view follows adds, deletes, undo, priority changes and a repeating task moving to its
+     * next occurrence.
+     */
+    @Test
+    public void testSortedBy_followsChanges() throws Exception {
+        assertEquals(List.of(meeting, report, laundry), sorted(SortedTaskViews.SortKey.DUE));
+
+        // Step 1: A new deadline due first goes to the front; tasks with equal keys keep their order
+        Deadline taxes = new Deadline("taxes", MONDAY);
+        taskList.addTask(taxes);
+        taskList.addTask(new Todo("gym"));
+        assertEquals("taxes", sorted(SortedTaskViews.SortKey.DUE).get(0).getDescription());
+        assertEquals("gym", sorted(SortedTaskViews.SortKey.DUE).get(4).getDescription());
+
+        // Step 2: Deleting and undoing removes and restores the task
+        taskList.deleteTask(5);
+        assertEquals(List.of(taxes, meeting, report, laundry), sorted(SortedTaskViews.SortKey.DUE));
+        taskList.undo(1);
+        assertEquals(5, sorted(SortedTaskViews.SortKey.DUE).size());
+
+        // Step 3: Marking a weekly deadline moves it behind a task due before its next occurrence
+        LocalDateTime tonight = LocalDate.now().atTime(23, 59);
+        Deadline review = new Deadline("review", tonight);
+        review.setRecurrence(new Recurrence(Recurrence.Frequency.WEEK));
+        Deadline essay = new Deadline("essay", tonight.plusDays(3));
+        taskList.addTasks(review, essay);
+        List<Task> byDue = sorted(SortedTaskViews.SortKey.DUE);
+        assertEquals(List.of(review, essay), byDue.subList(3, 5));
+
+        taskList.markTaskAsDone(taskList.size() - 1);
+        byDue = sorted(SortedTaskViews.SortKey.DUE);
+        assertEquals(List.of(essay, review), byDue.subList(3, 5));
+
+        // Step 4: Raising a priority moves the task to the front of the priority order
+        assertEquals(laundry, sorted(SortedTaskViews.SortKey.PRIORITY).get(0));
+        taskList.setTaskPriority(taskList.size(), Task.Priority.HIGH);
+        List<Task> byPriority = sorted(SortedTaskViews.SortKey.PRIORITY);
+        assertEquals(List.of(laundry, essay), byPriority.subList(0, 2));
+    }
+
+    /**
+     * Test that filters on the due date and type, answered from the views, match the same tasks as
+     * checking every task, including a repeating deadline whose later occurrence is in range.
+     */
+    @Test
+    public void testFilterTasks_lookedUpInViews() throws Exception {
+        Deadline standup = new Deadline("standup", MONDAY.minusDays(7));
+        standup.setRecurrence(new Recurrence(Recurrence.Frequency.DAY));
+        taskList.addTasks(standup, new Deadline("taxes", MONDAY.plusDays(1).plusSeconds(30)));
+        taskList.deleteTask(1);
+
+        // Step 1: A window on Tuesday finds the meeting, the taxes due within the minute and the standup
+        TaskFilter tuesday = TaskFilter.ofDueDate(TaskFilter.Comparison.EQUAL, MONDAY.plusDays(1).toLocalDate());
+        assertFilteredLikeScan(tuesday, 3);
+
+        // Step 2: Exact times, open windows, types and their conjunctions
+        assertFilteredLikeScan(TaskFilter.ofDueDateTime(TaskFilter.Comparison.EQUAL, MONDAY.plusDays(1)), 2);
+        assertFilteredLikeScan(TaskFilter.ofDueDate(TaskFilter.Comparison.LESS, MONDAY.toLocalDate()), 1);
+        assertFilteredLikeScan(TaskFilter.ofType(Deadline.class), 3);
+        assertFilteredLikeScan(TaskFilter.allOf(List.of(TaskFilter.ofType(Event.class), tuesday)), 1);
+        assertFilteredLikeScan(TaskFilter.allOf(List.of(
+                TaskFilter.ofDueDate(TaskFilter.Comparison.GREATER, MONDAY.plusDays(1).toLocalDate()),
+                TaskFilter.ofDueDate(TaskFilter.Comparison.LESS, MONDAY.toLocalDate()))), 0);
+
+        // Step 3: After undoing the deletes of the first and second tasks, matches are still in list order
+        taskList.deleteTask(1);
+        taskList.undo(1);
+        taskList.deleteTask(2);
+        taskList.undo(1);
+        assertFilteredLikeScan(TaskFilter.ofType(Deadline.class), 3);
+        assertFilteredLikeScan(tuesday, 3);
+    }
+
+    /**
+     * Test that tasks with equal keys stay in list order after undone deletes put them back in the middle.
+     */
+    @Test
+    public void testSortedBy_tiesInListOrderAfterUndo() throws Exception {
+        Todo alpha = new Todo("alpha");
+        Deadline beta = new Deadline("beta", MONDAY);
+        Todo gamma = new Todo("gamma");
+        Deadline delta = new Deadline("delta", MONDAY);
+        taskList = new TaskList();
+        taskList.addTask(alpha);
+        taskList.addTask(beta);
+        taskList.addTask(gamma);
+        taskList.addTask(delta);
+        assertEquals(List.of(beta, delta, alpha, gamma), sorted(SortedTaskViews.SortKey.DUE));
+
+        taskList.deleteTask(1);
+        taskList.undo(1);
+        taskList.deleteTask(2);
+        taskList.undo(1);
+
+        assertEquals(List.of(beta, delta, alpha, gamma), sorted(SortedTaskViews.SortKey.DUE));
+        assertEquals(List.of(alpha, gamma), taskList.filterTasks(TaskFilter.ofType(Todo.class)));
+    }
+
+    private void assertFilteredLikeScan(TaskFilter filter, int expectedCount) {
+        List<Task> scanned = new ArrayList<>();
+        for (Task task : taskList) {
+            if (filter.matches(task)) {
+                scanned.add(task);
+            }
+        }
+        assertEquals(scanned, taskList.filterTasks(filter));
+        assertEquals(expectedCount, scanned.size());
+    }
+
+    private List<Task> sorted(SortedTaskViews.SortKey key) {
+        return new ArrayList<>(taskList.sortedBy(key));
+    }
+}
@@ -0,0 +1,204 @@
+package monday.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import monday.metrics.LatencyHistogram;
+import monday.metrics.Metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for TaskList.
+ * This class tests the TaskList class methods to make sure they work correctly.
+ */
+public class TaskListTest {
+    private TaskList taskList;
+
+    /**
+     * This method runs before each test.
+     * It creates a fresh TaskList for each test so tests don't interfere with each other.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList(); // Create a new empty TaskList before each test
+    }
+
+    /**
+     * Test the size() method with an empty TaskList.
+     * A new TaskList should have size 0.
+     */
+    @Test
+    public void testSize_emptyList() {
+        // Check that a new TaskList has size 0
+        assertEquals(0, taskList.size());
+    }
+
+    /**
+     * Test the size() method after adding one task.
+     */
+    @Test
+    public void testSize_oneTask() {
+        // Step 1: Add one task
+        Todo todo = new Todo("test task");
+        taskList.addTask(todo);
+
+        // Step 2: Check that size is now 1
+        assertEquals(1, taskList.size());
+    }
+
+    /**
+     * Test the size() method after adding multiple tasks.
+     */
+    @Test
+    public void testSize_multipleTasks() {
+        // Step 1: Add three different tasks
+        taskList.addTask(new Todo("task 1"));
+        taskList.addTask(new Todo("task 2"));
+        taskList.addTask(new Todo("task 3"));
+
+        // Step 2: Check that size is 3
+        assertEquals(3, taskList.size());
+    }
+
+    /**
+     * Test the size() method after adding and then removing a task.
+     */
+    @Test
+    public void testSize_addThenRemove() throws Exception {
+        // Step 1: Add a task
+        taskList.addTask(new Todo("test task"));
+        assertEquals(1, taskList.size()); // Should be 1
+
+        // Step 2: Remove the task (task number 1)
+        taskList.deleteTask(1);
+
+        // Step 3: Check that size is back to 0
+        assertEquals(0, taskList.size());
+    }
+
+    /**
+     * Test that undo reverts an add and redo puts the task back.
+     */
+    @Test
+    public void testUndoRedo_add() {
+        // Step 1: Add a task and undo it
+        Todo todo = new Todo("test task");
+        taskList.addTask(todo);
+        assertEquals(1, taskList.undo(1));
+        assertEquals(0, taskList.size());
+
+        // Step 2: Redo brings back the same task
+        assertEquals(1, taskList.redo(1));
+        assertEquals(1, taskList.size());
+        assertSame(todo, taskList.getLastTask());
+    }
+
+    /**
+     * Test that undoing a delete restores the task at its original position.
+     */
+    @Test
+    public void testUndo_deleteRestoresPosition() throws Exception {
+        taskList.addTasks(new Todo("task 1"), new Todo("task 2"), new Todo("task 3"));
+        Task removed = taskList.deleteTask(2);
+
+        taskList.undo(1);
+
+        assertEquals(3, taskList.size());
+        assertSame(removed, taskList.getTask(2));
+    }
+
+    /**
+     * Test that undoing a mark restores the previous completion status.
+     */
+    @Test
+    public void testUndo_mark() throws Exception {
+        taskList.addTask(new Todo("test task"));
+        taskList.markTaskAsDone(1);
+        assertTrue(taskList.getTask(1).isDone());
+
+        taskList.undo(1);
+        assertFalse(taskList.getTask(1).isDone());
+
+        taskList.redo(1);
+        assertTrue(taskList.getTask(1).isDone());
+    }
+
+    /**
+     * Test that undo stops when there is no more history, and that a new change clears redo history.
+     */
+    @Test
+    public void testUndo_multipleStepsAndNewChange() {
+        taskList.addTask(new Todo("task 1"));
+        taskList.addTask(new Todo("task 2"));
+
+        // Asking for more steps than recorded only undoes what exists
+        assertEquals(2, taskList.undo(5));
+        assertEquals(0, taskList.size());
+
+        // A new change discards the redo history
+        taskList.addTask(new Todo("task 3"));
+        assertEquals(0, taskList.redo(1));
+        assertEquals(1, taskList.size());
+    }
+
+    /**
+     * Test that a fuzzy search finds words with typos, needs every word to match and follows deletions.
+     */
+    @Test
+    public void testFindTasksFuzzy() throws Exception {
+        // Step 1: Add tasks and search with typos
+        taskList.addTask(new Todo("buy groceries"));
+        taskList.addTask(new Todo("Read book"));
+        taskList.addTask(new Todo("return library book"));
+        assertEquals(1, taskList.findTasksFuzzy("grocerys").size());
+        assertEquals(2, taskList.findTasksFuzzy("bok").size());
+        assertEquals("return library book", taskList.findTasksFuzzy("libary bok").get(0).getDescription());
+
+        // Step 2: Deleted tasks are no longer found and new ones are
+        taskList.deleteTask(1);
+        taskList.addTask(new Todo("groceries again"));
+        assertEquals("groceries again", taskList.findTasksFuzzy("grocerys").get(0).getDescription());
+        assertTrue(taskList.findTasksFuzzy("bye").isEmpty());
+    }
+
+    /**
+     * Test that undoing a batch add removes the tasks that were added, even if the caller reused the array.
+     */
+    @Test
+    public void testUndo_batchArrayReused() {
+        // Step 1: Add a batch, then put other tasks into the same array
+        Task[] batch = {new Todo("first"), new Todo("second")};
+        taskList.addTasks(batch);
+        batch[0] = new Todo("other");
+        taskList.addTasks(new Todo("third"));
+
+        // Step 2: Undo both adds and redo the batch
+        taskList.undo(2);
+        taskList.redo(1);
+        assertEquals(2, taskList.size());
+        assertEquals("first", taskList.slice(0, 1).get(0).getDescription());
+    }
+
+    /**
+     * Test that the time recorded for a search covers only the scan, not the time the caller spends on each
+     * match, such as writing it out.
+     */
+    @Test
+    public void testMatchingTasks_timesOnlyTheScan() throws Exception {
+        LatencyHistogram findTime = Metrics.histogram("find tasks");
+        taskList.addTask(new Todo("read book"));
+        taskList.addTask(new Todo("return book"));
+        long countBefore = findTime.getCount();
+
+        for (Task task : taskList.matchingTasks("book")) {
+            Thread.sleep(200);
+        }
+
+        assertEquals(countBefore + 1, findTime.getCount());
+        assertTrue(findTime.getMax() < 200_000_000L, "max " + findTime.getMax());
+    }
+}
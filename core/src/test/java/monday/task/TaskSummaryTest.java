@@ -0,0 +1,95 @@
+package monday.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for TaskSummary.
+ * Checks that the counts follow changes to the list without counting it again.
+ */
+public class TaskSummaryTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    private TaskList taskList;
+
+    /**
+     * Creates a list with a todo, two deadlines on Monday and Wednesday and an event on Tuesday.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList(new ArrayList<>(List.of(
+                new Todo("laundry", Task.Priority.HIGH),
+                new Deadline("report", MONDAY, Task.Priority.LOW),
+                new Event("meeting", MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(1)),
+                new Deadline("essay", MONDAY.plusDays(2)))));
+    }
+
+    /**
+     * Test that the counts by type, status and priority follow marks, deletions, undo and priority changes.
+     */
+    @Test
+    public void testCounts_followChanges() throws Exception {
+        TaskSummary summary = taskList.getSummary();
+        assertEquals(4, summary.getTotal());
+        assertEquals(1, summary.getTodos());
+        assertEquals(2, summary.getDeadlines());
+        assertEquals(1, summary.getEvents());
+        assertEquals(2, summary.getPriorityCount(Task.Priority.MEDIUM));
+
+        // Step 1: Marking one task and deleting another
+        taskList.markTaskAsDone(1);
+        taskList.deleteTask(2);
+        assertEquals(3, summary.getTotal());
+        assertEquals(1, summary.getDone());
+        assertEquals(2, summary.getPending());
+        assertEquals(0, summary.getPriorityCount(Task.Priority.LOW));
+
+        // Step 2: Undoing both restores the original counts
+        taskList.undo(2);
+        assertEquals(4, summary.getTotal());
+        assertEquals(0, summary.getDone());
+        assertEquals(1, summary.getPriorityCount(Task.Priority.LOW));
+
+        // Step 3: Changing a priority through the list moves it to another count
+        taskList.setTaskPriority(1, Task.Priority.LOW);
+        assertEquals(0, summary.getPriorityCount(Task.Priority.HIGH));
+        assertEquals(2, summary.getPriorityCount(Task.Priority.LOW));
+
+        // Step 4: Replacing the list counts it again
+        taskList.setTasks(new ArrayList<>(List.of(new Todo("gym"))));
+        assertEquals(1, summary.getTodos());
+        assertEquals(0, summary.getDeadlines());
+    }
+
+    /**
+     * Test that overdue and due-today counts move with the time and skip completed deadlines.
+     */
+    @Test
+    public void testOverdueAndDueToday() throws Exception {
+        TaskSummary summary = taskList.getSummary();
+
+        // Step 1: Before Monday's deadline, nothing is overdue but it is due today
+        assertEquals(0, summary.getOverdue(MONDAY.minusHours(1)));
+        assertEquals(1, summary.getDueToday(MONDAY.minusHours(1)));
+
+        // Step 2: On Tuesday, Monday's deadline is overdue and the event starts today
+        assertEquals(1, summary.getOverdue(MONDAY.plusDays(1)));
+        assertEquals(1, summary.getDueToday(MONDAY.plusDays(1)));
+
+        // Step 3: Completing it, and adding a deadline that has already passed
+        taskList.markTaskAsDone(2);
+        taskList.addTask(new Deadline("tax", MONDAY.minusDays(30)));
+        assertEquals(1, summary.getOverdue(MONDAY.plusDays(1)));
+
+        // Step 4: On Thursday, the tax and essay deadlines are overdue; going back in time counts again
+        assertEquals(2, summary.getOverdue(MONDAY.plusDays(3)));
+        assertEquals(0, summary.getDueToday(MONDAY.plusDays(3)));
+        assertEquals(1, summary.getOverdue(MONDAY));
+    }
+}
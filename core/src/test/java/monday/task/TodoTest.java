@@ -100,4 +100,18 @@ public class TodoTest {
         String expected = "[T][ ] (!!) test task";
         assertEquals(expected, todo.toString());
     }
+
+    /**
+     * Test that renderTo appends the same text as toString to an existing output.
+     */
+    @Test
+    public void testRenderTo() throws Exception {
+        Todo todo = new Todo("buy groceries", Task.Priority.HIGH);
+        StringBuilder out = new StringBuilder("1.");
+
+        todo.renderTo(out);
+
+        assertEquals("1." + todo.toString(), out.toString());
+        assertEquals("1.[T][ ] (!!) buy groceries", out.toString());
+    }
 }
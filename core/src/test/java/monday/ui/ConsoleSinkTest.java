@@ -0,0 +1,58 @@
+package monday.ui;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ConsoleSink.
+ * Checks that output is held in the buffer until it is flushed or the buffer fills up.
+ */
+public class ConsoleSinkTest {
+    /**
+     * Test that nothing reaches the stream before a flush, and everything does after it.
+     */
+    @Test
+    public void testFlush_writesBufferedOutput() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ConsoleSink sink = new ConsoleSink(stream);
+
+        // Step 1: Writing a response leaves the stream untouched
+        sink.append("Here are the tasks in your list:").newLine();
+        sink.appendNumber(1).append('.').append("[T][ ] read").newLine();
+        assertEquals(0, stream.size());
+
+        // Step 2: Flushing writes the whole response at once
+        sink.flush();
+        String lineSeparator = System.lineSeparator();
+        assertEquals("Here are the tasks in your list:" + lineSeparator + "1.[T][ ] read" + lineSeparator,
+                stream.toString());
+
+        // Step 3: A second flush with nothing new writes nothing more
+        int size = stream.size();
+        sink.flush();
+        assertEquals(size, stream.size());
+    }
+
+    /**
+     * Test that a response larger than the buffer is written in chunks before the flush.
+     */
+    @Test
+    public void testAppend_largeOutputWrittenInChunks() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ConsoleSink sink = new ConsoleSink(stream);
+        String line = "x".repeat(99);
+
+        for (int i = 0; i < 2000; i++) {
+            sink.append(line).append('\n');
+        }
+        long beforeFlush = stream.size();
+        sink.flush();
+
+        assertTrue(beforeFlush > 0 && beforeFlush < 200_000);
+        assertEquals(200_000, stream.size());
+    }
+}
@@ -0,0 +1,122 @@
+package monday.ui;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import monday.task.SortedTaskViews;
+import monday.task.Task;
+import monday.task.TaskList;
+import monday.task.Todo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ListCursor.
+ * Checks that 'list' and 'more' page through the task list and stop at its end.
+ */
+public class ListCursorTest {
+    private TaskList taskList;
+    private ListCursor cursor;
+
+    /**
+     * Creates a list of four tasks and a fresh session cursor.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList();
+        for (int i = 1; i <= 4; i++) {
+            taskList.addTask(new Todo("task " + i));
+        }
+        cursor = new ListCursor();
+    }
+
+    /**
+     * Test that 'more' continues a listing page by page and stops exactly at the last task.
+     */
+    @Test
+    public void testMore_pagesToTheBoundary() {
+        // Step 1: The first page offers the next one
+        String first = run(ui -> ui.showTaskList(taskList, 1, 2));
+        assertTrue(first.contains("1.[T][ ]"));
+        assertFalse(first.contains("3.[T][ ]"));
+        assertTrue(first.contains("Showing tasks 1-2 of 4. Type 'more' to see the next 2."));
+        assertTrue(cursor.hasNext());
+
+        // Step 2: The last page ends on the boundary and offers nothing more
+        String second = run(ui -> ui.showMoreTasks(taskList));
+        assertTrue(second.startsWith("3.[T][ ]"));
+        assertTrue(second.contains("Showing tasks 3-4 of 4."));
+        assertFalse(second.contains("more"));
+        assertFalse(cursor.hasNext());
+
+        // Step 3: Going past the end says so
+        assertEquals("No more tasks to show. Use 'list' to start from the beginning.",
+                run(ui -> ui.showMoreTasks(taskList)));
+    }
+
+    /**
+     * Test that a short last page shows only the remaining tasks, and that pages past the end are refused.
+     */
+    @Test
+    public void testList_pastTheEnd() {
+        taskList.addTask(new Todo("task 5"));
+
+        String last = run(ui -> ui.showTaskList(taskList, 3, 2));
+        assertTrue(last.contains("5.[T][ ]"));
+        assertTrue(last.contains("Showing tasks 5-5 of 5."));
+        assertFalse(cursor.hasNext());
+
+        assertEquals("There is no page 4. You have 5 tasks, 3 pages of 2.",
+                run(ui -> ui.showTaskList(taskList, 4, 2)));
+    }
+
+    /**
+     * Test that a cursor left by a listing stops once tasks are deleted from under it.
+     */
+    @Test
+    public void testMore_afterListShrinks() throws Exception {
+        run(ui -> ui.showTaskList(taskList, 1, 2));
+        taskList.deleteTask(4);
+        taskList.deleteTask(3);
+
+        assertEquals("No more tasks to show. Use 'list' to start from the beginning.",
+                run(ui -> ui.showMoreTasks(taskList)));
+    }
+
+    /**
+     * Test that 'sort' shows one page and 'more' continues in the sorted order.
+     */
+    @Test
+    public void testMore_continuesSortedListing() {
+        for (int i = 5; i <= 55; i++) {
+            taskList.addTask(new Todo("task " + i, Task.Priority.LOW));
+        }
+        taskList.addTask(new Todo("urgent", Task.Priority.HIGH));
+
+        // Step 1: The first page holds the urgent task and the default number of tasks
+        String first = run(ui -> ui.showSortedTasks(taskList.sortedBy(SortedTaskViews.SortKey.PRIORITY),
+                SortedTaskViews.SortKey.PRIORITY));
+        assertTrue(first.contains("1.[T][ ] (!!) urgent"), first);
+        assertTrue(first.contains("2.[T][ ] (!) task 1"), first);
+        assertFalse(first.contains("task 50"));
+        assertTrue(first.contains("Showing tasks 1-50 of 56. Type 'more' to see the next 6."), first);
+
+        // Step 2: 'more' continues in priority order rather than list order
+        String second = run(ui -> ui.showMoreTasks(taskList));
+        assertTrue(second.startsWith("51.[T][ ]"), second);
+        assertTrue(second.contains("task 50"), second);
+        assertTrue(second.contains("56.[T][ ] () task 55"), second);
+        assertFalse(second.contains("urgent"));
+        assertTrue(second.contains("Showing tasks 51-56 of 56."), second);
+    }
+
+    private String run(Consumer<Ui> command) {
+        StringBuilderSink response = new StringBuilderSink();
+        command.accept(new Ui(response, cursor));
+        return response.toString().trim();
+    }
+}
@@ -0,0 +1,70 @@
+package monday.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for ResponseSink and StringBuilderSink.
+ * Checks the default number and line methods against the in-memory sink's own versions.
+ */
+public class ResponseSinkTest {
+    /**
+     * A sink that only implements the required methods, so that the default methods are used.
+     */
+    private static class MinimalSink implements ResponseSink {
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public MinimalSink append(CharSequence text) {
+            buffer.append(text);
+            return this;
+        }
+
+        @Override
+        public MinimalSink append(CharSequence text, int start, int end) {
+            buffer.append(text, start, end);
+            return this;
+        }
+
+        @Override
+        public MinimalSink append(char c) {
+            buffer.append(c);
+            return this;
+        }
+
+        @Override
+        public MinimalSink newLine() {
+            buffer.append('\n');
+            return this;
+        }
+    }
+
+    /**
+     * Test that the default appendNumber writes every digit, including zeros and the largest int.
+     */
+    @Test
+    public void testAppendNumber_default() {
+        MinimalSink sink = new MinimalSink();
+        for (int number : new int[] {0, 7, 10, 1005, Integer.MAX_VALUE}) {
+            sink.appendNumber(number).append(' ');
+        }
+        assertEquals("0 7 10 1005 2147483647 ", sink.buffer.toString());
+    }
+
+    /**
+     * Test that StringBuilderSink collects the same text as the default methods would write.
+     */
+    @Test
+    public void testStringBuilderSink_matchesDefaults() {
+        MinimalSink expected = new MinimalSink();
+        StringBuilderSink actual = new StringBuilderSink();
+        for (ResponseSink sink : new ResponseSink[] {expected, actual}) {
+            sink.append("Now you have ").appendNumber(42).println(" tasks.");
+            sink.append("abcdef", 2, 4).append('!').println();
+            sink.flush();
+        }
+        assertEquals(expected.buffer.toString(), actual.toString());
+        assertEquals("Now you have 42 tasks.\ncd!\n", actual.toString());
+    }
+}
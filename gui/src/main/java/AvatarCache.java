@@ -0,0 +1,28 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+/**
+ * Decodes each avatar image once and shares it between all windows and dialog boxes.
+ */
+public class AvatarCache {
+    public static final String USER = "/images/DaUser.jpg";
+    public static final String MONDAY = "/images/DaDuke.jpg";
+
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private AvatarCache() {
+    }
+
+    /**
+     * Returns the image at the given resource path, decoding it on first use.
+     *
+     * @param resourcePath The class path resource of the image
+     * @return The shared image
+     */
+    public static Image get(String resourcePath) {
+        return IMAGES.computeIfAbsent(resourcePath,
+                path -> new Image(AvatarCache.class.getResourceAsStream(path)));
+    }
+}
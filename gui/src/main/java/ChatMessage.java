@@ -0,0 +1,27 @@
+/**
+ * A single message in the chat transcript, kept as plain data.
+ * The GUI only builds nodes for the messages that are currently scrolled into view.
+ */
+public class ChatMessage {
+    private final String text;
+    private final boolean isFromUser;
+
+    /**
+     * Constructs a ChatMessage.
+     *
+     * @param text The message text
+     * @param isFromUser True if the user sent the message, false if Monday did
+     */
+    public ChatMessage(String text, boolean isFromUser) {
+        this.text = text;
+        this.isFromUser = isFromUser;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isFromUser() {
+        return isFromUser;
+    }
+}
@@ -0,0 +1,71 @@
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+
+/**
+ * Represents a dialog box consisting of an ImageView to represent the speaker's face
+ * and a label containing text from the speaker.
+ * The layout is built in code rather than loaded from FXML, so creating a dialog box does not parse any markup.
+ * A dialog box can be reused for a different message with {@link #show(String, Image, boolean)}.
+ */
+public class DialogBox extends HBox {
+    private static final double PICTURE_SIZE = 100.0;
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+
+    private boolean isFlipped;
+
+    /**
+     * Constructs an empty dialog box laid out for a user message.
+     */
+    public DialogBox() {
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(400.0);
+        setPadding(PADDING);
+        getChildren().setAll(dialog, displayPicture);
+    }
+
+    /**
+     * Replaces the content of this dialog box, flipping it if the speaker changes side.
+     *
+     * @param text The message text
+     * @param img The speaker's picture
+     * @param isFromUser True for a user message shown on the right, false for Monday's reply on the left
+     */
+    public void show(String text, Image img, boolean isFromUser) {
+        dialog.setText(text);
+        displayPicture.setImage(img);
+        if (isFlipped == isFromUser) {
+            flip();
+        }
+    }
+
+    /**
+     * Flips the dialog box such that the ImageView is on the left and text on the right, or back again.
+     */
+    private void flip() {
+        isFlipped = !isFlipped;
+        if (isFlipped) {
+            getChildren().setAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+        } else {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        }
+    }
+}
@@ -12,7 +12,9 @@ import monday.Monday;
  */
 public class Main extends Application {
 
-    private Monday monday = new Monday("./data/monday.txt");
+    private static final String DATA_FILE = "./data/monday.txt";
+
+    private Monday monday;
 
     @Override
     public void start(Stage stage) {
@@ -25,10 +27,19 @@ public class Main extends Application {
             stage.setResizable(false);
             stage.setMinHeight(600.0);
             stage.setMinWidth(400.0);
-            fxmlLoader.<MainWindow>getController().setMonday(monday); // inject the Monday instance
             stage.show();
+            // inject the Monday instance; its tasks are loaded in the background after the window is shown
+            monday = Monday.createWithoutLoading(DATA_FILE);
+            fxmlLoader.<MainWindow>getController().setMonday(monday);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    @Override
+    public void stop() {
+        if (monday != null) {
+            monday.close();
+        }
+    }
 }
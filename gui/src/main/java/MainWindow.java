@@ -0,0 +1,202 @@
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TextField;
+import javafx.scene.image.Image;
+import javafx.scene.layout.AnchorPane;
+import monday.Monday;
+
+/**
+ * Controller for the main GUI.
+ * Commands run one at a time on a background thread so that saving a large task list never freezes the window.
+ * The transcript is a virtualized list: messages are kept as plain data and only the visible ones get a node.
+ * Loading the task file is the first job on the command thread, so commands typed while it loads simply
+ * wait behind it.
+ */
+public class MainWindow extends AnchorPane {
+    /** Maximum number of commands that may wait behind the one currently running. */
+    private static final int MAX_QUEUED_COMMANDS = 32;
+    /** Number of messages kept in the transcript, configurable with -Dmonday.gui.historyLimit. */
+    private static final int HISTORY_LIMIT = Math.max(1, Integer.getInteger("monday.gui.historyLimit", 1000));
+    /** Horizontal space taken by the list's padding and scroll bar. */
+    private static final double TRANSCRIPT_INSETS = 20.0;
+
+    @FXML
+    private ListView<ChatMessage> transcript;
+    @FXML
+    private TextField userInput;
+    @FXML
+    private Button sendButton;
+    @FXML
+    private ProgressIndicator busyIndicator;
+
+    private Monday monday;
+    private int pendingCommands;
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+
+    private final ExecutorService commandExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_COMMANDS), runnable -> {
+                Thread thread = new Thread(runnable, "monday-command");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Image userImage = AvatarCache.get(AvatarCache.USER);
+    private final Image mondayImage = AvatarCache.get(AvatarCache.MONDAY);
+
+    @FXML
+    public void initialize() {
+        transcript.setItems(messages);
+        transcript.setFocusTraversable(false);
+        transcript.setCellFactory(listView -> new MessageCell());
+        busyIndicator.setVisible(false);
+    }
+
+    /** Injects the Monday instance, starts loading its tasks in the background and shows its reminders */
+    public void setMonday(Monday m) {
+        monday = m;
+        showWelcomeMessage();
+        monday.startReminders(message -> Platform.runLater(() -> addMessage(message, false)));
+        loadTasks();
+    }
+
+    /**
+     * Queues loading of the task file on the command thread, showing its progress on the busy indicator.
+     */
+    private void loadTasks() {
+        busyIndicator.setProgress(0);
+        submit(() -> monday.loadTasks((bytesRead, totalBytes) -> {
+            double progress = totalBytes == 0 ? 1 : (double) bytesRead / totalBytes;
+            Platform.runLater(() -> busyIndicator.setProgress(progress));
+        }), () -> busyIndicator.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS));
+    }
+
+    /**
+     * Displays a welcome message when the application starts
+     */
+    private void showWelcomeMessage() {
+        String greeting = "Hello! I'm Monday, your task management assistant.\n"
+                + "What can I help you with today?";
+        addMessage(greeting, false);
+    }
+
+    /**
+     * Echoes the user input and queues it for execution on the command thread.
+     * Commands are executed in the order they were entered, and Monday's reply is appended
+     * on the JavaFX application thread once it is ready. Clears the user input after queueing.
+     */
+    @FXML
+    private void handleUserInput() {
+        String input = userInput.getText();
+        if (input.isBlank()) {
+            return;
+        }
+        addMessage(input, true);
+        userInput.clear();
+
+        if (!submit(() -> monday.getResponse(input), () -> { })) {
+            addMessage("I'm still working through your earlier commands. Please try again in a moment.", false);
+        }
+    }
+
+    /**
+     * Queues a job on the command thread and shows its reply once it completes.
+     * Jobs run one at a time in the order they were submitted.
+     *
+     * @param job Produces the reply to show
+     * @param onDone Runs on the JavaFX application thread just before the reply is shown
+     * @return False if too many jobs are already waiting and this one was not queued
+     */
+    private boolean submit(Supplier<String> job, Runnable onDone) {
+        try {
+            commandExecutor.execute(() -> {
+                String response;
+                try {
+                    response = job.get();
+                } catch (RuntimeException e) {
+                    response = "Sorry, something went wrong: " + e.getMessage();
+                }
+                String reply = response;
+                Platform.runLater(() -> {
+                    onDone.run();
+                    showResponse(reply);
+                });
+            });
+            setPendingCommands(pendingCommands + 1);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Appends Monday's reply to a completed command. Must be called on the JavaFX application thread.
+     *
+     * @param response The reply to show
+     */
+    private void showResponse(String response) {
+        addMessage(response, false);
+        setPendingCommands(pendingCommands - 1);
+    }
+
+    /**
+     * Appends a message to the transcript, dropping the oldest ones beyond the history limit,
+     * and scrolls to it. Must be called on the JavaFX application thread.
+     *
+     * @param text The message text
+     * @param isFromUser True if the user sent the message
+     */
+    private void addMessage(String text, boolean isFromUser) {
+        messages.add(new ChatMessage(text, isFromUser));
+        if (messages.size() > HISTORY_LIMIT) {
+            messages.remove(0, messages.size() - HISTORY_LIMIT);
+        }
+        transcript.scrollTo(messages.size() - 1);
+    }
+
+    /**
+     * Updates the number of commands in flight and shows the busy indicator while any remain.
+     *
+     * @param count The number of commands queued or running
+     */
+    private void setPendingCommands(int count) {
+        pendingCommands = count;
+        busyIndicator.setVisible(count > 0);
+    }
+
+    /**
+     * A transcript cell that reuses one dialog box for whichever message scrolls into it.
+     */
+    private class MessageCell extends ListCell<ChatMessage> {
+        private final DialogBox dialogBox = new DialogBox();
+
+        MessageCell() {
+            dialogBox.prefWidthProperty().bind(transcript.widthProperty().subtract(TRANSCRIPT_INSETS));
+            dialogBox.maxWidthProperty().bind(dialogBox.prefWidthProperty());
+        }
+
+        @Override
+        protected void updateItem(ChatMessage message, boolean isEmpty) {
+            super.updateItem(message, isEmpty);
+            if (isEmpty || message == null) {
+                setGraphic(null);
+                return;
+            }
+            Image image = message.isFromUser() ? userImage : mondayImage;
+            dialogBox.show(message.getText(), image, message.isFromUser());
+            setGraphic(dialogBox);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+
+/**
+ * Measures the cost of creating one chat bubble, comparing the old per-bubble FXML load
+ * (with a freshly decoded avatar) against the code-built {@link DialogBox} with a cached avatar.
+ * Run with {@code gradlew benchmarkDialogBox}.
+ */
+public class DialogBoxBenchmark {
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    /** The markup every bubble used to be loaded from before DialogBox was built in code. */
+    private static final String LEGACY_FXML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<?import javafx.geometry.Insets?>\n"
+            + "<?import javafx.scene.control.Label?>\n"
+            + "<?import javafx.scene.image.ImageView?>\n"
+            + "<?import javafx.scene.layout.HBox?>\n"
+            + "<fx:root alignment=\"TOP_RIGHT\" maxHeight=\"1.7976931348623157E308\""
+            + " maxWidth=\"1.7976931348623157E308\" prefWidth=\"400.0\" type=\"javafx.scene.layout.HBox\""
+            + " xmlns=\"http://javafx.com/javafx/17\" xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+            + "  <children>\n"
+            + "    <Label fx:id=\"dialog\" minHeight=\"-Infinity\" wrapText=\"true\" />\n"
+            + "    <ImageView fx:id=\"displayPicture\" fitHeight=\"100.0\" fitWidth=\"100.0\""
+            + " pickOnBounds=\"true\" preserveRatio=\"true\" />\n"
+            + "  </children>\n"
+            + "  <padding><Insets bottom=\"15.0\" left=\"5.0\" right=\"5.0\" top=\"15.0\" /></padding>\n"
+            + "</fx:root>\n";
+    private static final byte[] LEGACY_FXML_BYTES = LEGACY_FXML.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Starts the JavaFX toolkit and prints the average time per bubble for both approaches.
+     *
+     * @param args Unused
+     * @throws Exception If the toolkit cannot be started or a measurement fails
+     */
+    public static void main(String[] args) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        report("FXMLLoader per bubble", DialogBoxBenchmark::createLegacyBubble);
+        report("code-built DialogBox", DialogBoxBenchmark::createBubble);
+        Platform.exit();
+    }
+
+    private static HBox createLegacyBubble() {
+        HBox root = new HBox();
+        FXMLLoader loader = new FXMLLoader();
+        loader.setRoot(root);
+        try {
+            loader.load(new ByteArrayInputStream(LEGACY_FXML_BYTES));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        new Image(DialogBoxBenchmark.class.getResourceAsStream(AvatarCache.USER));
+        return root;
+    }
+
+    private static HBox createBubble() {
+        DialogBox dialogBox = new DialogBox();
+        dialogBox.show("benchmark", AvatarCache.get(AvatarCache.USER), true);
+        return dialogBox;
+    }
+
+    /**
+     * Runs a warm-up and a measured batch of bubble creations on the JavaFX application thread.
+     *
+     * @param name The name printed with the result
+     * @param factory Creates one bubble
+     * @throws Exception If creating a bubble fails
+     */
+    private static void report(String name, Supplier<HBox> factory) throws Exception {
+        runOnFxThread(() -> repeat(factory, WARMUP_ROUNDS));
+        long elapsed = runOnFxThread(() -> repeat(factory, MEASURED_ROUNDS));
+        System.out.printf("%-24s %10.1f us/message%n", name, elapsed / 1_000.0 / MEASURED_ROUNDS);
+    }
+
+    private static long repeat(Supplier<HBox> factory, int rounds) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            factory.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runOnFxThread(Supplier<Long> action) throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Long> result = new AtomicReference<>();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                result.set(action.get());
+            } catch (RuntimeException e) {
+                failure.set(e);
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return result.get();
+    }
+}
@@ -0,0 +1,21 @@
+@ECHO OFF
+
+REM Runs the command line version of Monday, using the class-data-sharing archive when it has been built.
+REM With arguments, runs them as one command (e.g. monday.bat todo buy milk), through a running server if any.
+REM Build the jar and archive first with: gradlew :core:cdsArchive
+
+set ROOT=%~dp0..
+set JAR=%ROOT%\core\build\libs\MONDAY-cli.jar
+set ARCHIVE=%ROOT%\core\build\cds\MONDAY-cli.jsa
+
+if not exist "%JAR%" (
+    echo MONDAY-cli.jar not found, run gradlew :core:jar first
+    exit /b 1
+)
+
+REM -Xshare:auto falls back to normal class loading if the archive does not match this JDK or jar
+if exist "%ARCHIVE%" (
+    java -XX:SharedArchiveFile="%ARCHIVE%" -Xshare:auto -jar "%JAR%" %*
+) else (
+    java -jar "%JAR%" %*
+)